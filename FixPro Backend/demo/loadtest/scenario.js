@@ -0,0 +1,115 @@
+// Load-test scenario for the FixPro backend (https://k6.io).
+//
+// Seed a dataset first (see seed/DataSeeder):
+//   ./mvnw spring-boot:run -Dspring-boot.run.profiles=seed
+// then:
+//   k6 run loadtest/scenario.js
+//   k6 run -e BASE_URL=http://host:8089 -e TECHNICIANS=200 -e VUS=500 loadtest/scenario.js
+//
+// The end-of-test summary reports p50/p95/p99 latency (http_req_duration)
+// and throughput (http_reqs count and rate) for each endpoint tag.
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8089';
+const ADMIN_EMAIL = __ENV.ADMIN_EMAIL || 'admin@example.com';
+const ADMIN_PASSWORD = __ENV.ADMIN_PASSWORD || 'password123';
+const TECH_PASSWORD = __ENV.TECH_PASSWORD || 'password123';
+const TECHNICIANS = parseInt(__ENV.TECHNICIANS || '200', 10);
+const VUS = parseInt(__ENV.VUS || '100', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+const ENDPOINTS = ['login', 'my_interventions', 'admin_list', 'admin_page', 'technician_patch'];
+
+export const options = {
+  scenarios: {
+    // Technicians syncing their work list and updating interventions
+    technicians: {
+      executor: 'constant-vus',
+      exec: 'technicianFlow',
+      vus: Math.max(1, Math.floor(VUS * 0.9)),
+      duration: DURATION,
+    },
+    // Admins watching the dashboard
+    admins: {
+      executor: 'constant-vus',
+      exec: 'adminFlow',
+      vus: Math.max(1, Math.ceil(VUS * 0.1)),
+      duration: DURATION,
+    },
+    // Fresh logins (BCrypt-bound), at a fixed arrival rate
+    logins: {
+      executor: 'constant-arrival-rate',
+      exec: 'loginFlow',
+      rate: parseInt(__ENV.LOGIN_RATE || '5', 10),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 20,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  // Per-endpoint thresholds make k6 print per-endpoint sub-metrics
+  thresholds: Object.assign({ http_req_failed: ['rate<0.01'] },
+    ...ENDPOINTS.map((e) => ({
+      [`http_req_duration{endpoint:${e}}`]: ['p(99)<5000'],
+      [`http_reqs{endpoint:${e}}`]: ['count>=0'],
+    }))),
+};
+
+function login(email, password) {
+  const res = http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({ email, password }),
+    { headers: { 'Content-Type': 'application/json' }, tags: { endpoint: 'login' } });
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return res.status === 200 ? res.json('token') : null;
+}
+
+function auth(token, endpoint) {
+  return {
+    headers: { Authorization: `Bearer ${token}`, 'Content-Type': 'application/json' },
+    tags: { endpoint },
+  };
+}
+
+export function setup() {
+  const technicianTokens = [];
+  for (let t = 0; t < TECHNICIANS; t++) {
+    technicianTokens.push(login(`tech${t}@seed.local`, TECH_PASSWORD));
+  }
+  return { adminToken: login(ADMIN_EMAIL, ADMIN_PASSWORD), technicianTokens };
+}
+
+export function technicianFlow(data) {
+  const token = data.technicianTokens[(__VU - 1) % data.technicianTokens.length];
+  if (!token) return;
+
+  const res = http.get(`${BASE_URL}/api/interventions/my`, auth(token, 'my_interventions'));
+  check(res, { 'my 200': (r) => r.status === 200 });
+
+  const items = res.status === 200 ? res.json() : [];
+  if (items.length > 0) {
+    const target = items[Math.floor(Math.random() * items.length)];
+    const patch = http.patch(`${BASE_URL}/api/interventions/${target.id}`,
+      JSON.stringify({ status: 'IN_PROGRESS', description: `Updated by load test at ${Date.now()}` }),
+      auth(token, 'technician_patch'));
+    check(patch, { 'patch 200': (r) => r.status === 200 });
+  }
+
+  sleep(1);
+}
+
+export function adminFlow(data) {
+  const list = http.get(`${BASE_URL}/api/interventions`, auth(data.adminToken, 'admin_list'));
+  check(list, { 'list 200': (r) => r.status === 200 });
+
+  const page = http.get(`${BASE_URL}/api/interventions/page?size=50`, auth(data.adminToken, 'admin_page'));
+  check(page, { 'page 200': (r) => r.status === 200 });
+
+  sleep(2);
+}
+
+export function loginFlow() {
+  const t = Math.floor(Math.random() * TECHNICIANS);
+  login(`tech${t}@seed.local`, TECH_PASSWORD);
+}
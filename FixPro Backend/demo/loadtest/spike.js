@@ -0,0 +1,64 @@
+// Shift-change spike: every technician syncs at once (https://k6.io).
+//
+// Compares request handling on platform threads (Tomcat's 200 workers)
+// against virtual threads. Seed a dataset with enough technicians, then run
+// the same script against each mode and compare the summaries:
+//   VIRTUAL_THREADS=false ./mvnw spring-boot:run
+//   k6 run -e TECHNICIANS=2000 loadtest/spike.js
+//   VIRTUAL_THREADS=true ./mvnw spring-boot:run
+//   k6 run -e TECHNICIANS=2000 loadtest/spike.js
+//
+// PEAK_VUS (default 1500) is the number of concurrent clients at the top of
+// the ramp. http_reqs rate is the throughput; http_req_duration p95/p99 and
+// http_req_failed show queueing and pool timeouts.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8089';
+const TECH_PASSWORD = __ENV.TECH_PASSWORD || 'password123';
+const TECHNICIANS = parseInt(__ENV.TECHNICIANS || '2000', 10);
+const PEAK_VUS = parseInt(__ENV.PEAK_VUS || '1500', 10);
+
+export const options = {
+  // Logging in 2000 technicians (BCrypt) takes a while
+  setupTimeout: '10m',
+  scenarios: {
+    shift_change: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: PEAK_VUS },
+        { duration: '2m', target: PEAK_VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: ['p(99)<5000'],
+  },
+};
+
+export function setup() {
+  const tokens = [];
+  for (let t = 0; t < TECHNICIANS; t++) {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+      JSON.stringify({ email: `tech${t}@seed.local`, password: TECH_PASSWORD }),
+      { headers: { 'Content-Type': 'application/json' } });
+    tokens.push(res.status === 200 ? res.json('token') : null);
+  }
+  return { tokens };
+}
+
+// No think time: each VU is a client polling as fast as the server answers
+export default function (data) {
+  const token = data.tokens[(__VU - 1) % data.tokens.length];
+  if (!token) return;
+
+  const res = http.get(`${BASE_URL}/api/interventions/my`,
+    { headers: { Authorization: `Bearer ${token}` } });
+  check(res, { 'my 200': (r) => r.status === 200 });
+}
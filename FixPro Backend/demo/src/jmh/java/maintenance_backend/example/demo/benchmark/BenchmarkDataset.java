@@ -0,0 +1,91 @@
+package maintenance_backend.example.demo.benchmark;
+
+import maintenance_backend.example.demo.entity.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Reproducible in-memory entity graph: the same seed and sizes always give
+// the same clients, machines, technicians and interventions. Creation dates
+// cover the year before the generation day, so about a quarter of the rows
+// fall in the default 90-day hot window the list queries read.
+public class BenchmarkDataset {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final MachineStatus[] MACHINE_STATUSES = MachineStatus.values();
+
+    public final List<Client> clients = new ArrayList<>();
+    public final List<Machine> machines = new ArrayList<>();
+    public final List<User> technicians = new ArrayList<>();
+    public final List<Intervention> interventions = new ArrayList<>();
+
+    // assignIds: give every entity an id (for pure in-memory benchmarks);
+    // leave ids null when the dataset is going to be persisted
+    public static BenchmarkDataset generate(int clients,
+                                            int machinesPerClient,
+                                            int technicians,
+                                            int interventions,
+                                            long seed,
+                                            boolean assignIds) {
+        Random random = new Random(seed);
+        BenchmarkDataset d = new BenchmarkDataset();
+        LocalDateTime origin = LocalDate.now().atStartOfDay().minusDays(365);
+
+        for (int c = 0; c < clients; c++) {
+            Client client = new Client();
+            client.setCompanyName("Client " + c);
+            client.setAddress(c + " Industrial Park");
+            client.setPhone(String.format("+33 1 %08d", c));
+            d.clients.add(client);
+
+            for (int m = 0; m < machinesPerClient; m++) {
+                Machine machine = new Machine();
+                machine.setName("Machine " + c + "-" + m);
+                machine.setSerialNumber(String.format("SN-%06d-%03d", c, m));
+                machine.setStatus(MACHINE_STATUSES[random.nextInt(MACHINE_STATUSES.length)]);
+                machine.setClient(client);
+                d.machines.add(machine);
+            }
+        }
+
+        for (int t = 0; t < technicians; t++) {
+            User technician = new User();
+            technician.setName("Technician " + t);
+            technician.setEmail("tech" + t + "@bench.local");
+            technician.setPassword("{noop}bench");
+            technician.setRole(Role.TECHNICIAN);
+            d.technicians.add(technician);
+        }
+
+        for (int i = 0; i < interventions; i++) {
+            Intervention intervention = new Intervention();
+            intervention.setDescription("Scheduled check #" + i + " - inspect bearings, belts and lubrication");
+            intervention.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            intervention.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            intervention.setCreatedAt(origin.plusMinutes(random.nextInt(365 * 24 * 60)));
+            if (!d.machines.isEmpty()) {
+                intervention.setMachine(d.machines.get(random.nextInt(d.machines.size())));
+            }
+            if (!d.technicians.isEmpty() && random.nextInt(10) > 0) {
+                intervention.setTechnician(d.technicians.get(random.nextInt(d.technicians.size())));
+            }
+            d.interventions.add(intervention);
+        }
+
+        if (assignIds) {
+            long id = 1;
+            for (Client c : d.clients) c.setId(id++);
+            for (Machine m : d.machines) m.setId(id++);
+            for (User u : d.technicians) u.setId(id++);
+            for (Intervention i : d.interventions) i.setId(id++);
+        }
+
+        return d;
+    }
+}
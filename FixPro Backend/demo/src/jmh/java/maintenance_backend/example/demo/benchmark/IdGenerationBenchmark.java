@@ -0,0 +1,122 @@
+package maintenance_backend.example.demo.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Inserts/sec with IDENTITY ids (one round trip per row, as Hibernate must do
+// to learn each id) versus pooled sequence ids with JDBC batching. Plain
+// JDBC, no Spring context. Defaults to in-memory H2 in PostgreSQL mode; pass
+// -Dbench.url=jdbc:postgresql://localhost:5432/maintenance?reWriteBatchedInserts=true
+// -Dbench.user/-Dbench.password (in jmh.args as -jvmArgs) for PostgreSQL.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    // Rows per invocation; scores are inserts/sec
+    private static final int ROWS = 1000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    private Connection connection;
+    private PreparedStatement identityInsert;
+    private PreparedStatement nextval;
+    private PreparedStatement sequenceInsert;
+    private long row;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.url", "jdbc:h2:mem:idbench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.user", "sa"),
+                System.getProperty("bench.password", ""));
+        connection.setAutoCommit(false);
+
+        dropTables();
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE bench_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "name VARCHAR(255), serial_number VARCHAR(255))");
+            st.execute("CREATE TABLE bench_sequence (id BIGINT PRIMARY KEY, "
+                    + "name VARCHAR(255), serial_number VARCHAR(255))");
+            st.execute("CREATE SEQUENCE bench_seq START WITH " + ALLOCATION_SIZE + " INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+
+        identityInsert = connection.prepareStatement(
+                "INSERT INTO bench_identity (name, serial_number) VALUES (?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+        nextval = connection.prepareStatement("SELECT nextval('bench_seq')");
+        sequenceInsert = connection.prepareStatement(
+                "INSERT INTO bench_sequence (id, name, serial_number) VALUES (?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        identityInsert.close();
+        nextval.close();
+        sequenceInsert.close();
+        dropTables();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identity() throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            long n = row++;
+            identityInsert.setString(1, "Machine " + n);
+            identityInsert.setString(2, "SN-" + n);
+            identityInsert.executeUpdate();
+            try (ResultSet keys = identityInsert.getGeneratedKeys()) {
+                keys.next();
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pooledSequence() throws SQLException {
+        long hi = 0;
+        long next = 1;
+        for (int i = 0; i < ROWS; i++) {
+            // Pooled optimizer: one nextval hands out ALLOCATION_SIZE ids
+            if (next > hi) {
+                try (ResultSet rs = nextval.executeQuery()) {
+                    rs.next();
+                    hi = rs.getLong(1);
+                }
+                next = hi - ALLOCATION_SIZE + 1;
+            }
+            long n = row++;
+            sequenceInsert.setLong(1, next++);
+            sequenceInsert.setString(2, "Machine " + n);
+            sequenceInsert.setString(3, "SN-" + n);
+            sequenceInsert.addBatch();
+            if ((i + 1) % BATCH_SIZE == 0) {
+                sequenceInsert.executeBatch();
+            }
+        }
+        sequenceInsert.executeBatch();
+        connection.commit();
+    }
+
+    private void dropTables() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_identity");
+            st.execute("DROP TABLE IF EXISTS bench_sequence");
+            st.execute("DROP SEQUENCE IF EXISTS bench_seq");
+        }
+        connection.commit();
+    }
+}
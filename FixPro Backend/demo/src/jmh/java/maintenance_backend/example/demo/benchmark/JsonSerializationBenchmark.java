@@ -0,0 +1,43 @@
+package maintenance_backend.example.demo.benchmark;
+
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serializing a list response the way the controllers return it
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private JsonMapper jsonMapper;
+    private List<InterventionResponseDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        dtos = BenchmarkDataset.generate(50, 20, 30, size, BenchmarkDataset.DEFAULT_SEED, true)
+                .interventions.stream()
+                .map(i -> new InterventionResponseDTO(
+                        i.getId(), i.getDescription(), i.getPriority(), i.getStatus(), i.getCreatedAt(),
+                        i.getMachine().getId(), i.getMachine().getName(),
+                        i.getTechnician() != null ? i.getTechnician().getId() : null,
+                        i.getTechnician() != null ? i.getTechnician().getName() : null,
+                        i.getVersion()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(dtos);
+    }
+}
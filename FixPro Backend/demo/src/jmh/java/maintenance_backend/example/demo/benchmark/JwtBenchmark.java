@@ -0,0 +1,42 @@
+package maintenance_backend.example.demo.benchmark;
+
+import maintenance_backend.example.demo.config.JwtUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter path: the old validate-then-read (two parses) against the
+// single-parse parseSubject
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        token = jwtUtils.generateToken("tech@example.com");
+    }
+
+    @Benchmark
+    public String validateThenRead() {
+        return jwtUtils.validateJwtToken(token) ? jwtUtils.getEmailFromJwt(token) : null;
+    }
+
+    @Benchmark
+    public Optional<String> parseSubject() {
+        return jwtUtils.parseSubject(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateToken("tech@example.com");
+    }
+}
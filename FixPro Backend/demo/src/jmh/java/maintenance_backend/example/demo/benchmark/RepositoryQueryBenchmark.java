@@ -0,0 +1,109 @@
+package maintenance_backend.example.demo.benchmark;
+
+import maintenance_backend.example.demo.DemoApplication;
+import maintenance_backend.example.demo.dto.InterventionFilterDTO;
+import maintenance_backend.example.demo.dto.InterventionPageDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Intervention;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.repository.ClientRepository;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.MachineRepository;
+import maintenance_backend.example.demo.repository.UserRepository;
+import maintenance_backend.example.demo.service.InterventionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Read paths through the real Spring/JPA stack. Defaults to in-memory H2 in
+// PostgreSQL mode; pass -Dbench.url/-Dbench.user/-Dbench.password (in
+// jmh.args as -jvmArgs) to run against a real PostgreSQL instead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+    @Param({"20000"})
+    public int interventions;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkDataset dataset;
+    private InterventionService interventionService;
+    private InterventionRepository interventionRepository;
+    private Long technicianId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.url", "jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        boolean h2 = url.startsWith("jdbc:h2");
+
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + System.getProperty("bench.user", "sa"),
+                        "spring.datasource.password=" + System.getProperty("bench.password", ""),
+                        "spring.flyway.enabled=" + !h2,
+                        "spring.jpa.hibernate.ddl-auto=" + (h2 ? "create-drop" : "validate"),
+                        "spring.jpa.show-sql=false",
+                        // No partition DDL on H2, and no background job touching
+                        // the rows while they are measured
+                        "interventions.partitions.enabled=" + !h2,
+                        "interventions.archive.enabled=false",
+                        "maintenance.scheduler.enabled=false",
+                        "purge.enabled=false",
+                        "spring.jpa.properties.hibernate.dialect=" + (h2
+                                ? "org.hibernate.dialect.H2Dialect"
+                                : "org.hibernate.dialect.PostgreSQLDialect"))
+                .run();
+
+        interventionService = context.getBean(InterventionService.class);
+        interventionRepository = context.getBean(InterventionRepository.class);
+
+        dataset = BenchmarkDataset.generate(
+                100, 20, 50, interventions, BenchmarkDataset.DEFAULT_SEED, false);
+        context.getBean(ClientRepository.class).saveAll(dataset.clients);
+        context.getBean(MachineRepository.class).saveAll(dataset.machines);
+        context.getBean(UserRepository.class).saveAll(dataset.technicians);
+        interventionRepository.saveAll(dataset.interventions);
+        technicianId = dataset.technicians.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // Only remove the rows this benchmark inserted
+        interventionRepository.deleteAllInBatch(dataset.interventions);
+        context.getBean(MachineRepository.class).deleteAllInBatch(dataset.machines);
+        context.getBean(ClientRepository.class).deleteAllInBatch(dataset.clients);
+        context.getBean(UserRepository.class).deleteAllInBatch(dataset.technicians);
+        context.close();
+    }
+
+    @Benchmark
+    public List<InterventionResponseDTO> listAllProjection() {
+        return interventionService.getAll();
+    }
+
+    @Benchmark
+    public List<Intervention> listAllFetchJoin() {
+        return interventionRepository.findAllFull();
+    }
+
+    @Benchmark
+    public InterventionPageDTO firstPageFilteredByStatus() {
+        InterventionFilterDTO filter = new InterventionFilterDTO();
+        filter.setStatus(Status.IN_PROGRESS);
+        return interventionService.getPage(filter, null, 50);
+    }
+
+    @Benchmark
+    public List<InterventionResponseDTO> technicianInterventions() {
+        return interventionService.getByTechnician(technicianId);
+    }
+}
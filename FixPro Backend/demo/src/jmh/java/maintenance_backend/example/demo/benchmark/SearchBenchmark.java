@@ -0,0 +1,75 @@
+package maintenance_backend.example.demo.benchmark;
+
+import maintenance_backend.example.demo.DemoApplication;
+import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.SearchPageDTO;
+import maintenance_backend.example.demo.service.SearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// Typeahead latency (target: < 20 ms per call) against a seeded PostgreSQL;
+// search needs pg_trgm and the V6 indexes, so there is no H2 fallback.
+// Seed a million interventions first:
+//   ./mvnw spring-boot:run -Dspring-boot.run.profiles=seed \
+//       -Dspring-boot.run.arguments=--seed.interventions-per-machine=200
+// then run with -Dbench.url/-Dbench.user/-Dbench.password (in jmh.args as -jvmArgs).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    // Partial word, rare phrase, very common word
+    @Param({"hydr", "pressure sens", "maintenance"})
+    public String interventionTerm;
+
+    private ConfigurableApplicationContext context;
+    private SearchService searchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.url");
+        if (url == null || !url.startsWith("jdbc:postgresql")) {
+            throw new IllegalStateException("SearchBenchmark needs -Dbench.url=jdbc:postgresql://...");
+        }
+
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + System.getProperty("bench.user", "postgres"),
+                        "spring.datasource.password=" + System.getProperty("bench.password", ""),
+                        "interventions.archive.enabled=false",
+                        "maintenance.scheduler.enabled=false",
+                        "purge.enabled=false")
+                .run();
+        searchService = context.getBean(SearchService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SearchPageDTO<InterventionResponseDTO> interventions() {
+        return searchService.searchInterventions(interventionTerm, 0, 20);
+    }
+
+    @Benchmark
+    public SearchPageDTO<MachineResponseDTO> machineSerialPrefix() {
+        return searchService.searchMachines("SN-00004", 0, 20);
+    }
+
+    @Benchmark
+    public SearchPageDTO<ClientResponseDTO> clientName() {
+        return searchService.searchClients("ient 4", 0, 20);
+    }
+}
@@ -0,0 +1,37 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.benchmark.BenchmarkDataset;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Intervention;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// InterventionService.toDTO over a list of loaded entities
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterventionMappingBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private List<Intervention> interventions;
+
+    @Setup
+    public void setUp() {
+        interventions = BenchmarkDataset.generate(50, 20, 30, size, BenchmarkDataset.DEFAULT_SEED, true)
+                .interventions;
+    }
+
+    @Benchmark
+    public List<InterventionResponseDTO> toDTO() {
+        return interventions.stream()
+                .map(InterventionService::toDTO)
+                .toList();
+    }
+}
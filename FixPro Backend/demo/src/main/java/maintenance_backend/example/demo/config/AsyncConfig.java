@@ -0,0 +1,39 @@
+package maintenance_backend.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// Executors for @Async work that must stay off the request threads
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Thumbnail rendering (ThumbnailService): fixed threads and a bounded
+    // queue. When the queue is full the job is dropped instead of running on
+    // the uploading request's thread; the next request for the thumbnail
+    // queues it again.
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(
+            @Value("${attachments.thumbnails.threads:2}") int threads,
+            @Value("${attachments.thumbnails.queue-capacity:200}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        Counter rejected = meterRegistry.counter("attachments.thumbnails.rejected");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("Thumbnail queue full ({} queued), skipping", pool.getQueue().size());
+        });
+        return executor;
+    }
+}
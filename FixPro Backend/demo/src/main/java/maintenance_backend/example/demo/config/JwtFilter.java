@@ -1,5 +1,7 @@
 package maintenance_backend.example.demo.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +26,8 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -35,20 +40,23 @@ public class JwtFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (jwtUtils.validateJwtToken(token)) {
-                String email = jwtUtils.getEmailFromJwt(token);
+            // jwt.filter{outcome=authenticated|rejected}: token parse + principal lookup
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Optional<User> principal = jwtUtils.parseSubject(token)
+                    .flatMap(email -> principalCache.get(email, userRepository::findByEmail));
+            sample.stop(meterRegistry.timer("jwt.filter",
+                    "outcome", principal.isPresent() ? "authenticated" : "rejected"));
 
-                userRepository.findByEmail(email).ifPresent(user -> {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    user,
-                                    null,
-                                    List.of(new SimpleGrantedAuthority(user.getRole().name()))
-                            );
+            principal.ifPresent(user -> {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                user,
+                                null,
+                                List.of(new SimpleGrantedAuthority(user.getRole().name()))
+                        );
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                });
-            }
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,83 @@
+package maintenance_backend.example.demo.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+// Metrics not covered by the actuator defaults. Those defaults already give:
+// - http.server.requests (per endpoint)
+// - spring.data.repository.invocations (per repository method)
+// - hikaricp.connections.*
+@Configuration
+public class MetricsConfig {
+
+    // Enables @Timed on the service classes
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // Hibernate session factory statistics
+    // (needs hibernate.generate_statistics=true)
+    @Bean
+    public MeterBinder hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return registry -> {
+            counter(registry, statistics, "hibernate.statements.prepared", Statistics::getPrepareStatementCount);
+            counter(registry, statistics, "hibernate.query.executions", Statistics::getQueryExecutionCount);
+            counter(registry, statistics, "hibernate.entities.loaded", Statistics::getEntityLoadCount);
+            counter(registry, statistics, "hibernate.entities.fetched", Statistics::getEntityFetchCount);
+            counter(registry, statistics, "hibernate.entities.inserted", Statistics::getEntityInsertCount);
+            counter(registry, statistics, "hibernate.entities.updated", Statistics::getEntityUpdateCount);
+            counter(registry, statistics, "hibernate.collections.loaded", Statistics::getCollectionLoadCount);
+            counter(registry, statistics, "hibernate.flushes", Statistics::getFlushCount);
+            counter(registry, statistics, "hibernate.transactions", Statistics::getTransactionCount);
+            counter(registry, statistics, "hibernate.second-level-cache.hits", Statistics::getSecondLevelCacheHitCount);
+            counter(registry, statistics, "hibernate.second-level-cache.misses", Statistics::getSecondLevelCacheMissCount);
+            counter(registry, statistics, "hibernate.second-level-cache.puts", Statistics::getSecondLevelCachePutCount);
+            counter(registry, statistics, "hibernate.query-cache.hits", Statistics::getQueryCacheHitCount);
+            counter(registry, statistics, "hibernate.query-cache.misses", Statistics::getQueryCacheMissCount);
+
+            Gauge.builder("hibernate.query.execution.max", statistics, Statistics::getQueryExecutionMaxTime)
+                    .baseUnit("milliseconds")
+                    .description("Slowest query since startup")
+                    .register(registry);
+
+            // Per-region second-level cache counters, for sizing application.conf
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+                regionCounter(registry, stats, region, "hits", CacheRegionStatistics::getHitCount);
+                regionCounter(registry, stats, region, "misses", CacheRegionStatistics::getMissCount);
+                regionCounter(registry, stats, region, "puts", CacheRegionStatistics::getPutCount);
+            }
+        };
+    }
+
+    private static void counter(MeterRegistry registry,
+                                Statistics statistics,
+                                String name,
+                                ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value).register(registry);
+    }
+
+    private static void regionCounter(MeterRegistry registry,
+                                      CacheRegionStatistics stats,
+                                      String region,
+                                      String result,
+                                      ToDoubleFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder("hibernate.second-level-cache.region." + result, stats, value)
+                .tag("region", region)
+                .register(registry);
+    }
+}
@@ -0,0 +1,73 @@
+package maintenance_backend.example.demo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import maintenance_backend.example.demo.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// Authenticated users keyed by token subject (email), so JwtFilter does not
+// hit the users table on every request. Entries expire after the TTL, which
+// also bounds staleness on other backend instances that miss an invalidation.
+@Component
+public class PrincipalCache {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Cache<String, User> cache;
+    // Bumped by invalidate(), per stripe of emails
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public PrincipalCache(
+            @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.principal-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtPrincipals");
+    }
+
+    // Unknown subjects are not cached.
+    // The loader runs outside the cache: cache.get(key, fn) computes inside
+    // a ConcurrentHashMap bin lock (synchronized), and a JDBC call there
+    // would pin the carrier thread when requests run on virtual threads.
+    // The result is stored only if no invalidate() for the email's stripe
+    // happened since the load started, so a principal read before a role
+    // change or delete is never written back after the invalidation.
+    // Concurrent misses for one email may load twice, which is harmless.
+    public Optional<User> get(String email, Function<String, Optional<User>> loader) {
+        User cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        int stripe = stripe(email);
+        long generation = generations.get(stripe);
+        Optional<User> loaded = loader.apply(email);
+        loaded.ifPresent(user -> cache.asMap().compute(email,
+                (key, current) -> generations.get(stripe) == generation ? user : current));
+        return loaded;
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            // Bump first: a load that checks after this will not store
+            generations.incrementAndGet(stripe(email));
+            cache.invalidate(email);
+        }
+    }
+
+    private static int stripe(String email) {
+        return Math.floorMod(email.hashCode(), GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,33 @@
+package maintenance_backend.example.demo.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+// Explicit invalidation of the second-level cache regions (application.conf).
+// READ_WRITE regions already follow writes made through the EntityManager;
+// these cover rows removed by cascades and rows written outside JPA.
+@Component
+public class ReferenceDataCache {
+
+    private final Cache cache;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    public void evict(Class<?> entity, Object id) {
+        cache.evictEntityData(entity, id);
+        cache.evictDefaultQueryRegion();
+    }
+
+    public void evict(Class<?> entity) {
+        cache.evictEntityData(entity);
+        cache.evictDefaultQueryRegion();
+    }
+
+    public void evictAll() {
+        cache.evictAllRegions();
+    }
+}
@@ -0,0 +1,10 @@
+package maintenance_backend.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (@Scheduled), e.g. InterventionArchiver
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
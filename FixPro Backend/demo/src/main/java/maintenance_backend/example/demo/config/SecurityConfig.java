@@ -1,5 +1,6 @@
 package maintenance_backend.example.demo.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +32,10 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> auth
 
+                        // Async re-dispatch of an already authorized request
+                        // (SSE feed, streamed exports)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // ================= CORS =================
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
@@ -63,6 +68,11 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PATCH, "/api/interventions/**")
                         .hasAuthority("TECHNICIAN")
 
+                        // Attachments: access to the intervention is checked
+                        // in AttachmentService
+                        .requestMatchers("/api/interventions/*/attachments")
+                        .hasAnyAuthority("ADMIN", "TECHNICIAN")
+
                         // Admin: full access
                         .requestMatchers(HttpMethod.GET, "/api/interventions/**")
                         .hasAuthority("ADMIN")
@@ -73,6 +83,48 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.DELETE, "/api/interventions/**")
                         .hasAuthority("ADMIN")
 
+                        // ================= ATTACHMENTS =================
+                        .requestMatchers(HttpMethod.GET, "/api/attachments/**")
+                        .hasAnyAuthority("ADMIN", "TECHNICIAN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/attachments/**")
+                        .hasAuthority("ADMIN")
+
+                        // ================= EVENTS =================
+                        .requestMatchers(HttpMethod.GET, "/api/events/**")
+                        .hasAnyAuthority("ADMIN", "TECHNICIAN")
+
+                        // ================= ACTUATOR =================
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**")
+                        .hasAuthority("ADMIN")
+
+                        // ================= SEARCH =================
+                        .requestMatchers("/api/search/**")
+                        .hasAuthority("ADMIN")
+
+                        // ================= DISPATCH =================
+                        .requestMatchers(HttpMethod.POST, "/api/dispatch/claim")
+                        .hasAuthority("TECHNICIAN")
+                        .requestMatchers(HttpMethod.GET, "/api/dispatch/**")
+                        .hasAnyAuthority("ADMIN", "TECHNICIAN")
+
+                        // ================= WORKLOAD =================
+                        .requestMatchers("/api/workload/**")
+                        .hasAuthority("ADMIN")
+
+                        // ================= SYNC =================
+                        // Technician: offline sync of their own interventions
+                        .requestMatchers("/api/sync/**")
+                        .hasAuthority("TECHNICIAN")
+
+                        // ================= MAINTENANCE PLANS =================
+                        .requestMatchers("/api/maintenance-plans/**")
+                        .hasAuthority("ADMIN")
+
+                        // ================= STATISTICS =================
+                        .requestMatchers("/api/statistics/**")
+                        .hasAuthority("ADMIN")
+
                         // ================= CLIENTS =================
                         .requestMatchers("/api/clients/**")
                         .hasAnyAuthority("ADMIN", "TECHNICIAN")
@@ -98,7 +150,7 @@ public class SecurityConfig {
                 "GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"
         ));
         config.setAllowedHeaders(List.of("*"));
-        config.setExposedHeaders(List.of("Authorization"));
+        config.setExposedHeaders(List.of("Authorization", "ETag", "Last-Modified"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,83 @@
+package maintenance_backend.example.demo.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.AttachmentDTO;
+import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.service.AttachmentService;
+import maintenance_backend.example.demo.service.ThumbnailService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+// Photos and PDFs of interventions, uploaded by the assigned technician or
+// an admin. Downloads are streamed straight from the file store (FileDownload).
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final ThumbnailService thumbnailService;
+
+    @PostMapping(value = "/interventions/{id}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AttachmentDTO> upload(
+            @PathVariable Long id,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(attachmentService.upload(id, file, user));
+    }
+
+    @GetMapping("/interventions/{id}/attachments")
+    public ResponseEntity<List<AttachmentDTO>> getByIntervention(
+            @PathVariable Long id,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(attachmentService.getByIntervention(id, user));
+    }
+
+    // Honours Range / If-Range and If-None-Match
+    @GetMapping("/attachments/{id}")
+    public void download(
+            @PathVariable Long id,
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        AttachmentDTO attachment = attachmentService.getById(id, user);
+        FileDownload.send(request, response, attachmentService.getFile(attachment),
+                attachment.getContentHash(), attachment.getContentType(), attachment.getFileName());
+    }
+
+    // 404 while the thumbnail is being rendered; a missing one is queued again
+    @GetMapping("/attachments/{id}/thumbnail")
+    public void thumbnail(
+            @PathVariable Long id,
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        AttachmentDTO attachment = attachmentService.getById(id, user);
+        Optional<Path> thumbnail = attachmentService.getThumbnail(attachment);
+        if (thumbnail.isEmpty()) {
+            if (thumbnailService.isRenderable(attachment.getContentType())) {
+                thumbnailService.request(attachment.getContentHash(), attachment.getContentType());
+            }
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        FileDownload.send(request, response, thumbnail.get(),
+                attachment.getContentHash(), MediaType.IMAGE_JPEG_VALUE, "thumbnail.jpg");
+    }
+
+    @DeleteMapping("/attachments/{id}")
+    public ResponseEntity<String> delete(@PathVariable Long id) {
+        attachmentService.delete(id);
+        return ResponseEntity.ok("Attachment deleted");
+    }
+}
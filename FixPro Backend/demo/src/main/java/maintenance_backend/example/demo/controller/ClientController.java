@@ -2,13 +2,16 @@ package maintenance_backend.example.demo.controller;
 
 import maintenance_backend.example.demo.dto.ClientRequestDTO;
 import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Client;
 import maintenance_backend.example.demo.service.ClientService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/clients")
@@ -24,13 +27,22 @@ public class ClientController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ClientResponseDTO>> getClients() {
-        return ResponseEntity.ok(clientService.getAllClients());
+    public ResponseEntity<List<ClientResponseDTO>> getClients(WebRequest request) {
+        if (ConditionalGet.isNotModified(request, clientService.getAllClientsVersion())) {
+            return ConditionalGet.notModified();
+        }
+        return ConditionalGet.ok(clientService.getAllClients());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ClientResponseDTO> getClient(@PathVariable Long id) {
-        return ResponseEntity.of(clientService.getClientById(id));
+    public ResponseEntity<ClientResponseDTO> getClient(@PathVariable Long id, WebRequest request) {
+        Optional<VersionDTO> version = clientService.getClientVersion(id);
+        if (version.isPresent() && ConditionalGet.isNotModified(request, version.get())) {
+            return ConditionalGet.notModified();
+        }
+        return clientService.getClientById(id)
+                .map(ConditionalGet::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,38 @@
+package maintenance_backend.example.demo.controller;
+
+import maintenance_backend.example.demo.dto.VersionDTO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+
+// Conditional GET: the controller checks a VersionDTO before loading the
+// payload and answers 304 when If-None-Match / If-Modified-Since still hold.
+// A write landing between the check and the load only makes the client
+// refetch once more, it never pairs a newer ETag with older data.
+final class ConditionalGet {
+
+    // Responses are per user, and clients must revalidate before reuse
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    // Also sets ETag and Last-Modified on the response
+    static boolean isNotModified(WebRequest request, VersionDTO version) {
+        long lastModified = version.getLastModified() != null
+                ? version.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return request.checkNotModified("\"" + version.getTag() + "\"", lastModified);
+    }
+
+    static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).build();
+    }
+
+    static <T> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(body);
+    }
+}
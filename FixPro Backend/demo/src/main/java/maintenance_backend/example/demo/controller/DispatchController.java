@@ -0,0 +1,34 @@
+package maintenance_backend.example.demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.service.DispatchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dispatch")
+@RequiredArgsConstructor
+public class DispatchController {
+
+    private final DispatchService dispatchService;
+
+    // Unassigned work in dispatch order: ?size=
+    @GetMapping
+    public ResponseEntity<List<InterventionResponseDTO>> getQueue(
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(dispatchService.getQueue(size));
+    }
+
+    // Technician takes the next intervention; 204 when the queue is empty
+    @PostMapping("/claim")
+    public ResponseEntity<InterventionResponseDTO> claimNext(@AuthenticationPrincipal User user) {
+        return dispatchService.claimNext(user)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
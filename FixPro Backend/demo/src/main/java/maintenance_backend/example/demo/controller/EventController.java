@@ -0,0 +1,27 @@
+package maintenance_backend.example.demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.entity.Role;
+import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.service.EventStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final EventStreamService eventStreamService;
+
+    // Admins receive every event, technicians only events for their own interventions
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal User user,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Long technicianId = user.getRole() == Role.TECHNICIAN ? user.getId() : null;
+        return eventStreamService.subscribe(technicianId, lastEventId);
+    }
+}
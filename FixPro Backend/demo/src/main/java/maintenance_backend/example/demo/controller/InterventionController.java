@@ -4,16 +4,22 @@ import maintenance_backend.example.demo.dto.*;
 import maintenance_backend.example.demo.entity.Intervention;
 import maintenance_backend.example.demo.entity.Role;
 import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.service.InterventionExportService;
 import maintenance_backend.example.demo.service.InterventionService;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/interventions")
@@ -21,6 +27,7 @@ import java.util.List;
 public class InterventionController {
 
     private final InterventionService interventionService;
+    private final InterventionExportService interventionExportService;
 
     // ================= ADMIN =================
 
@@ -31,12 +38,78 @@ public class InterventionController {
         return ResponseEntity.ok(interventionService.create(dto));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<InterventionResponseDTO>> createAll(
+            @RequestBody List<InterventionRequestDTO> dtos) {
+        return ResponseEntity.ok(interventionService.createAll(dtos));
+    }
+
+    @PutMapping("/bulk/technician")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> assignTechnician(
+            @RequestBody InterventionBulkAssignDTO dto) {
+        int updated = interventionService.assignTechnician(dto);
+        return ResponseEntity.ok(updated + " interventions reassigned");
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<InterventionResponseDTO>> getAll() {
         return ResponseEntity.ok(interventionService.getAll());
     }
 
+    // Keyset-paginated listing with optional filters:
+    // ?status=&priority=&machineId=&technicianId=&from=&to=&history=&cursor=&size=
+    // Covers interventions.hot-window unless history=true
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InterventionPageDTO> getPage(
+            InterventionFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(interventionService.getPage(filter, cursor, size));
+    }
+
+    // Archived interventions (closed and older than
+    // interventions.archive.closed-after), same parameters as /page
+    @GetMapping("/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InterventionPageDTO> getArchivePage(
+            InterventionFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(interventionService.getArchivePage(filter, cursor, size));
+    }
+
+    // Streams every matching row (same filters as /page) as CSV or NDJSON
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            InterventionFilterDTO filter,
+            @RequestParam(defaultValue = "csv") String format) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            if (ndjson) {
+                interventionExportService.exportNdjson(filter, out);
+            } else {
+                interventionExportService.exportCsv(filter, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(ndjson
+                        ? MediaType.parseMediaType("application/x-ndjson")
+                        : MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"interventions." + (ndjson ? "ndjson" : "csv") + "\"")
+                .body(body);
+    }
+
     @GetMapping("/technician/{technicianId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<InterventionResponseDTO>> getByTechnician(
@@ -50,8 +123,10 @@ public class InterventionController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<InterventionResponseDTO> adminUpdate(
             @PathVariable Long id,
-            @RequestBody InterventionRequestDTO dto) {
-        return ResponseEntity.ok(interventionService.update(id, dto));
+            @RequestBody InterventionRequestDTO dto,
+            @AuthenticationPrincipal User user,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(interventionService.update(id, dto, user, ifMatch));
     }
 
     @DeleteMapping("/{id}")
@@ -66,8 +141,14 @@ public class InterventionController {
     @GetMapping("/{id}")
     public ResponseEntity<InterventionResponseDTO> getById(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest request
     ) {
+        Optional<VersionDTO> version = interventionService.getVersion(id, user);
+        if (version.isPresent() && ConditionalGet.isNotModified(request, version.get())) {
+            return ConditionalGet.notModified();
+        }
+
         InterventionResponseDTO dto = interventionService.getById(id)
                 .orElseThrow(() -> new RuntimeException("Intervention not found"));
 
@@ -76,7 +157,7 @@ public class InterventionController {
             return ResponseEntity.status(403).build();
         }
 
-        return ResponseEntity.ok(dto);
+        return ConditionalGet.ok(dto);
     }
 
     // ================= TECHNICIAN =================
@@ -96,10 +177,11 @@ public class InterventionController {
     public ResponseEntity<InterventionResponseDTO> technicianUpdate(
             @PathVariable Long id,
             @RequestBody InterventionTechnicianUpdateDTO dto,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         return ResponseEntity.ok(
-                interventionService.technicianUpdate(id, dto, user)
+                interventionService.technicianUpdate(id, dto, user, ifMatch)
         );
     }
 }
@@ -2,13 +2,16 @@ package maintenance_backend.example.demo.controller;
 
 import maintenance_backend.example.demo.dto.MachineRequestDTO;
 import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Machine;
 import maintenance_backend.example.demo.service.MachineService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/machines")
@@ -24,13 +27,22 @@ public class MachineController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MachineResponseDTO>> getMachines() {
-        return ResponseEntity.ok(machineService.getAll());
+    public ResponseEntity<List<MachineResponseDTO>> getMachines(WebRequest request) {
+        if (ConditionalGet.isNotModified(request, machineService.getAllVersion())) {
+            return ConditionalGet.notModified();
+        }
+        return ConditionalGet.ok(machineService.getAll());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<MachineResponseDTO> getMachine(@PathVariable Long id) {
-        return ResponseEntity.of(machineService.getById(id));
+    public ResponseEntity<MachineResponseDTO> getMachine(@PathVariable Long id, WebRequest request) {
+        Optional<VersionDTO> version = machineService.getVersion(id);
+        if (version.isPresent() && ConditionalGet.isNotModified(request, version.get())) {
+            return ConditionalGet.notModified();
+        }
+        return machineService.getById(id)
+                .map(ConditionalGet::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
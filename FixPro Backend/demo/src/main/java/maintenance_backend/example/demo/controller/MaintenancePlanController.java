@@ -0,0 +1,44 @@
+package maintenance_backend.example.demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.MaintenancePlanRequestDTO;
+import maintenance_backend.example.demo.dto.MaintenancePlanResponseDTO;
+import maintenance_backend.example.demo.service.MaintenancePlanService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/maintenance-plans")
+@RequiredArgsConstructor
+public class MaintenancePlanController {
+
+    private final MaintenancePlanService maintenancePlanService;
+
+    @PostMapping
+    public ResponseEntity<MaintenancePlanResponseDTO> create(
+            @RequestBody MaintenancePlanRequestDTO dto) {
+        return ResponseEntity.ok(maintenancePlanService.create(dto));
+    }
+
+    // Soonest due first; ?machineId= for one machine's plans
+    @GetMapping
+    public ResponseEntity<List<MaintenancePlanResponseDTO>> getAll(
+            @RequestParam(required = false) Long machineId) {
+        return ResponseEntity.ok(maintenancePlanService.getAll(machineId));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<MaintenancePlanResponseDTO> update(
+            @PathVariable Long id,
+            @RequestBody MaintenancePlanRequestDTO dto) {
+        return ResponseEntity.ok(maintenancePlanService.update(id, dto));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<String> delete(@PathVariable Long id) {
+        maintenancePlanService.delete(id);
+        return ResponseEntity.ok("Maintenance plan deleted");
+    }
+}
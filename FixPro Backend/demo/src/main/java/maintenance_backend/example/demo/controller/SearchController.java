@@ -0,0 +1,46 @@
+package maintenance_backend.example.demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.SearchPageDTO;
+import maintenance_backend.example.demo.service.SearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Ranked typeahead search: ?q=&page=&size=
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // Serial number (prefix matches first) or machine name
+    @GetMapping("/machines")
+    public ResponseEntity<SearchPageDTO<MachineResponseDTO>> searchMachines(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(searchService.searchMachines(q, page, size));
+    }
+
+    // Company name
+    @GetMapping("/clients")
+    public ResponseEntity<SearchPageDTO<ClientResponseDTO>> searchClients(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(searchService.searchClients(q, page, size));
+    }
+
+    // Free text in the description
+    @GetMapping("/interventions")
+    public ResponseEntity<SearchPageDTO<InterventionResponseDTO>> searchInterventions(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(searchService.searchInterventions(q, page, size));
+    }
+}
@@ -0,0 +1,20 @@
+package maintenance_backend.example.demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.StatisticsDTO;
+import maintenance_backend.example.demo.service.StatisticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    @GetMapping
+    public ResponseEntity<StatisticsDTO> getStatistics() {
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+}
@@ -0,0 +1,39 @@
+package maintenance_backend.example.demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.SyncResponseDTO;
+import maintenance_backend.example.demo.dto.SyncResultDTO;
+import maintenance_backend.example.demo.dto.SyncUpdateDTO;
+import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.service.SyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Offline technician clients: delta download of /api/interventions/my and
+// batched upload of queued changes
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // No token: full list; then pass the returned token to get only changes
+    @GetMapping("/my")
+    public ResponseEntity<SyncResponseDTO> getChanges(
+            @RequestParam(required = false) String token,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(syncService.getChanges(user, token));
+    }
+
+    // One result per change, in the same order
+    @PostMapping("/my")
+    public ResponseEntity<List<SyncResultDTO>> applyUpdates(
+            @RequestBody List<SyncUpdateDTO> updates,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(syncService.applyUpdates(user, updates));
+    }
+}
@@ -3,6 +3,7 @@ package maintenance_backend.example.demo.controller;
 import lombok.RequiredArgsConstructor;
 import maintenance_backend.example.demo.dto.UserRequestDTO;
 import maintenance_backend.example.demo.dto.UserResponseDTO;
+import maintenance_backend.example.demo.entity.Role;
 import maintenance_backend.example.demo.entity.User;
 import maintenance_backend.example.demo.service.UserService;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +29,13 @@ public class UserController {
         return ResponseEntity.ok(userService.getAll());
     }
 
+    @PatchMapping("/{id}/role")
+    public ResponseEntity<UserResponseDTO> updateRole(
+            @PathVariable Long id,
+            @RequestParam Role role) {
+        return ResponseEntity.ok(userService.updateRole(id, role));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteUser(@PathVariable Long id) {
         userService.delete(id);
@@ -0,0 +1,29 @@
+package maintenance_backend.example.demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.TechnicianWorkloadDTO;
+import maintenance_backend.example.demo.service.WorkloadService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workload")
+@RequiredArgsConstructor
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    // Every technician, least loaded first
+    @GetMapping
+    public ResponseEntity<List<TechnicianWorkloadDTO>> getWorkloads() {
+        return ResponseEntity.ok(workloadService.getWorkloads());
+    }
+
+    // Who a new intervention would go to with autoAssign
+    @GetMapping("/suggestion")
+    public ResponseEntity<TechnicianWorkloadDTO> getSuggestion() {
+        return ResponseEntity.of(workloadService.suggest());
+    }
+}
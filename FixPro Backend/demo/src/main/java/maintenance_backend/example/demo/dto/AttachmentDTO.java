@@ -0,0 +1,19 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class AttachmentDTO {
+    private Long id;
+    private Long interventionId;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String contentHash;
+    private Long uploadedById;
+    private LocalDateTime createdAt;
+}
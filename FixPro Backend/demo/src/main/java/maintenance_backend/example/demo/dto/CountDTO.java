@@ -0,0 +1,12 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CountDTO {
+    private Long id;
+    private String name;
+    private long count;
+}
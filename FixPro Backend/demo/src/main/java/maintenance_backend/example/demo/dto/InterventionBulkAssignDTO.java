@@ -0,0 +1,11 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class InterventionBulkAssignDTO {
+    private List<Long> interventionIds;
+    private Long technicianId;
+}
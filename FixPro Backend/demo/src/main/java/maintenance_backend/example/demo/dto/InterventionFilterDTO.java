@@ -0,0 +1,25 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.Data;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class InterventionFilterDTO {
+    private Status status;
+    private Priority priority;
+    private Long machineId;
+    private Long technicianId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from; // inclusive
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to; // exclusive
+
+    // Also read rows older than interventions.hot-window (all partitions)
+    private boolean history;
+}
@@ -0,0 +1,13 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class InterventionPageDTO {
+    private List<InterventionResponseDTO> items;
+    private String nextCursor; // null when there is no next page
+}
@@ -15,4 +15,5 @@ public class InterventionRequestDTO {
     private Status status;
     private Long machineId;
     private Long technicianId; // optional at creation
+    private boolean autoAssign; // creation without technicianId: pick the least-loaded technician
 }
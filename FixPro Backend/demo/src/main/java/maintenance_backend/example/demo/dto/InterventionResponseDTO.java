@@ -21,4 +21,6 @@ public class InterventionResponseDTO {
 
     private Long technicianId;
     private String technicianName;
+
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.Data;
+import maintenance_backend.example.demo.entity.Priority;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class MaintenancePlanRequestDTO {
+    private Long machineId;
+    private String description;
+    private Priority priority;
+    private Integer intervalDays; // either intervalDays...
+    private String cron; // ...or a cron expression
+    private boolean autoAssign; // generated interventions pick the least-loaded technician
+    private Boolean active; // defaults to true
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime firstDueAt; // optional, otherwise the next occurrence from now
+}
@@ -0,0 +1,25 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.entity.Priority;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class MaintenancePlanResponseDTO {
+    private Long id;
+
+    private Long machineId;
+    private String machineName;
+
+    private String description;
+    private Priority priority;
+    private Integer intervalDays;
+    private String cron;
+    private boolean autoAssign;
+    private boolean active;
+    private LocalDateTime nextDueAt;
+    private LocalDateTime lastGeneratedAt;
+}
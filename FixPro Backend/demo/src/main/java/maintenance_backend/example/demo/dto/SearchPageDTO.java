@@ -0,0 +1,15 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SearchPageDTO<T> {
+    private List<T> items; // best match first
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
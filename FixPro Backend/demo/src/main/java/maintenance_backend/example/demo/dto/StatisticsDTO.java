@@ -0,0 +1,24 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.entity.MachineStatus;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class StatisticsDTO {
+    private Map<Status, Long> interventionsByStatus;
+    private Map<Priority, Long> interventionsByPriority;
+    private Map<MachineStatus, Long> machinesByStatus;
+
+    private List<CountDTO> interventionsByTechnician;
+    private List<CountDTO> interventionsByClient;
+    private List<CountDTO> machinesByClient;
+
+    private List<WindowCountDTO> windows;
+}
@@ -0,0 +1,28 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+
+import java.time.LocalDateTime;
+
+// InterventionResponseDTO plus the version a queued offline change is based on
+@Data
+@AllArgsConstructor
+public class SyncInterventionDTO {
+    private Long id;
+    private String description;
+    private Priority priority;
+    private Status status;
+    private LocalDateTime createdAt;
+
+    private Long machineId;
+    private String machineName;
+
+    private Long technicianId;
+    private String technicianName;
+
+    private Long version;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Apply removedInterventionIds first, then upsert interventions, machines
+// and clients. When full is true the lists are the complete set and replace
+// whatever the client holds (no token, or one older than sync.token-ttl).
+@Data
+@AllArgsConstructor
+public class SyncResponseDTO {
+    private List<SyncInterventionDTO> interventions;
+    private List<Long> removedInterventionIds;
+    private List<MachineResponseDTO> machines;
+    private List<ClientResponseDTO> clients;
+    private String token; // pass back as ?token= on the next sync
+    private boolean full;
+}
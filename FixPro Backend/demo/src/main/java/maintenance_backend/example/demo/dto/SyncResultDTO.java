@@ -0,0 +1,24 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Outcome of one SyncUpdateDTO, in upload order. intervention is the
+// current state (after the change when APPLIED), null when NOT_FOUND
+// or FORBIDDEN.
+@Data
+@AllArgsConstructor
+public class SyncResultDTO {
+
+    public enum Outcome {
+        APPLIED,
+        CONFLICT, // baseVersion is stale: rebase on intervention and retry
+        NOT_FOUND,
+        FORBIDDEN,
+        INVALID
+    }
+
+    private Long interventionId;
+    private Outcome outcome;
+    private SyncInterventionDTO intervention;
+}
@@ -0,0 +1,13 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.Data;
+import maintenance_backend.example.demo.entity.Status;
+
+// One queued offline technician change (same fields as the PATCH)
+@Data
+public class SyncUpdateDTO {
+    private Long interventionId;
+    private Long baseVersion; // version the change was made on, optional
+    private Status status;
+    private String description;
+}
@@ -0,0 +1,19 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class TechnicianWorkloadDTO {
+    private Long technicianId;
+    private String name;
+    private long open;                      // interventions not DONE or CANCELLED
+    private Map<Status, Long> openByStatus;
+    private Map<Priority, Long> openByPriority;
+    private long score;                     // priority-weighted open load, lower is freer
+}
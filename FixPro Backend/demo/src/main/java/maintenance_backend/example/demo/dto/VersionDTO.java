@@ -0,0 +1,71 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// Change fingerprint behind the ETag / Last-Modified of a GET response.
+// Repositories build it from ids, @Version counters and updatedAt only,
+// so a conditional GET never loads or serializes the payload itself.
+@Getter
+public class VersionDTO {
+
+    private final String tag;
+    private final Long version; // @Version of the row itself, null for tables
+    private final LocalDateTime lastModified;
+
+    // A single row
+    public VersionDTO(Long id, Long version, LocalDateTime updatedAt) {
+        this(id + "." + version, version, updatedAt);
+    }
+
+    // A whole table: an insert raises MAX(id), an update raises
+    // SUM(version), a delete without insert lowers COUNT
+    public VersionDTO(Long count, Long maxId, Long versionSum, LocalDateTime lastModified) {
+        this(count + "." + maxId + "." + versionSum, null, lastModified);
+    }
+
+    // A row plus the row it shows a name from (machine -> client)
+    public VersionDTO(Long id, Long version, LocalDateTime updatedAt,
+                      Long refId, Long refVersion, LocalDateTime refUpdatedAt) {
+        this(new VersionDTO(id, version, updatedAt)
+                .and(new VersionDTO(refId, refVersion, refUpdatedAt)));
+    }
+
+    // A row plus two referenced rows (intervention -> machine, technician)
+    public VersionDTO(Long id, Long version, LocalDateTime updatedAt,
+                      Long refId, Long refVersion, LocalDateTime refUpdatedAt,
+                      Long ref2Id, Long ref2Version, LocalDateTime ref2UpdatedAt) {
+        this(new VersionDTO(id, version, updatedAt, refId, refVersion, refUpdatedAt)
+                .and(new VersionDTO(ref2Id, ref2Version, ref2UpdatedAt)));
+    }
+
+    private VersionDTO(VersionDTO copy) {
+        this(copy.tag, copy.version, copy.lastModified);
+    }
+
+    private VersionDTO(String tag, Long version, LocalDateTime lastModified) {
+        this.tag = tag;
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+
+    // Strong comparison against an If-Match header value
+    public boolean matches(String ifMatch) {
+        for (String candidate : ifMatch.split(",")) {
+            String etag = candidate.trim();
+            if (etag.equals("*") || etag.equals("\"" + tag + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Fingerprint of a payload built from both sources
+    public VersionDTO and(VersionDTO other) {
+        LocalDateTime latest = lastModified == null ? other.lastModified
+                : other.lastModified == null || lastModified.isAfter(other.lastModified) ? lastModified
+                : other.lastModified;
+        return new VersionDTO(tag + "-" + other.tag, version, latest);
+    }
+}
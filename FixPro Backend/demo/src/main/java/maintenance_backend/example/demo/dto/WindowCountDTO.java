@@ -0,0 +1,12 @@
+package maintenance_backend.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class WindowCountDTO {
+    private int days;
+    private long open;   // created in the window, still open
+    private long closed; // created in the window, DONE or CANCELLED
+}
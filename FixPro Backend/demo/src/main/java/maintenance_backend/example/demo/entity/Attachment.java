@@ -0,0 +1,44 @@
+package maintenance_backend.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// File attached to an intervention; the bytes are in AttachmentStore under
+// contentHash (SHA-256), shared by every attachment with the same content
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_attachment_intervention_id", columnList = "intervention_id"),
+        @Index(name = "idx_attachment_content_hash", columnList = "content_hash")
+})
+public class Attachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachment_seq")
+    @SequenceGenerator(name = "attachment_seq", sequenceName = "attachment_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
+    private Long id;
+
+    // Plain id: intervention's primary key is (id, created_at) in the database
+    @Column(nullable = false)
+    private Long interventionId;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    private String fileName;
+
+    private long size;
+
+    private Long uploadedById;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
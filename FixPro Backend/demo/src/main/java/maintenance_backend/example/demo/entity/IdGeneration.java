@@ -0,0 +1,14 @@
+package maintenance_backend.example.demo.entity;
+
+// Shared settings for the pooled sequence generators.
+// ALLOCATION_SIZE must match the sequences' INCREMENT BY (see the Flyway
+// migrations); with hibernate.id.sequence.increment_size_mismatch_strategy=fix
+// the value read from the database wins, so it can be tuned per environment
+// with ALTER SEQUENCE ... INCREMENT BY.
+public final class IdGeneration {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
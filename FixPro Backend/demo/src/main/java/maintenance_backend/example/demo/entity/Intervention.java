@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -12,9 +13,20 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // Keyset pagination: ORDER BY created_at DESC, id DESC, optionally filtered
+        @Index(name = "idx_intervention_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_intervention_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_intervention_priority_created_at", columnList = "priority, created_at, id"),
+        @Index(name = "idx_intervention_machine_created_at", columnList = "machine_id, created_at, id"),
+        @Index(name = "idx_intervention_technician_created_at", columnList = "technician_id, created_at, id"),
+        // Technician delta sync: changed since a watermark
+        @Index(name = "idx_intervention_technician_updated_at", columnList = "technician_id, updated_at")
+})
 public class Intervention {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intervention_seq")
+    @SequenceGenerator(name = "intervention_seq", sequenceName = "intervention_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     private String description;
@@ -25,14 +37,22 @@ public class Intervention {
     @Enumerated(EnumType.STRING)
     private Status status;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="machine_id")
     @JsonIgnoreProperties({"interventions", "client"})
     private Machine machine;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="technician_id")
     private User technician;
 
+    // Partition key (monthly range partitions, V8), never updated
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
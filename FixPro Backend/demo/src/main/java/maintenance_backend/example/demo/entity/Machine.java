@@ -5,16 +5,26 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "machine")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_machine_client_id", columnList = "client_id")
+})
 public class Machine {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "machine_seq")
+    @SequenceGenerator(name = "machine_seq", sequenceName = "machine_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
     private String name;
     private String serialNumber;
@@ -22,12 +32,21 @@ public class Machine {
     @Enumerated(EnumType.STRING)
     private MachineStatus status;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="client_id")
     @JsonIgnoreProperties("machines") // prevent recursion
     private Client client;
 
-    @OneToMany(mappedBy="machine", cascade=CascadeType.ALL)
+    @OneToMany(mappedBy="machine")
     @JsonIgnoreProperties("machine")
     private List<Intervention> interventions;
+
+    // Soft delete, also set when the client is deleted
+    private LocalDateTime deletedAt;
+
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,56 @@
+package maintenance_backend.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Recurring preventive maintenance for one machine: every intervalDays
+// (interval based) or on a cron expression (calendar based), never both
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_maintenance_plan_machine_id", columnList = "machine_id")
+})
+public class MaintenancePlan {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "maintenance_plan_seq")
+    @SequenceGenerator(name = "maintenance_plan_seq", sequenceName = "maintenance_plan_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
+    private Long id;
+
+    // Plans go away with their machine (ON DELETE CASCADE)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "machine_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Machine machine;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    private Integer intervalDays;
+
+    private String cron; // Spring CronExpression, e.g. "0 0 6 1 */3 *"
+
+    private boolean autoAssign;
+
+    private boolean active = true;
+
+    private LocalDateTime nextDueAt;
+
+    private LocalDateTime lastGeneratedAt;
+
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -5,5 +5,9 @@ public enum Status {
     CANCELLED,
     DONE,
     ASSIGNED,
-    IN_PROGRESS
+    IN_PROGRESS;
+
+    public boolean isClosed() {
+        return this == DONE || this == CANCELLED;
+    }
 }
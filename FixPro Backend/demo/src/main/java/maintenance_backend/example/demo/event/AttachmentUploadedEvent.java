@@ -0,0 +1,13 @@
+package maintenance_backend.example.demo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Published by AttachmentService once a file is in the store;
+// ThumbnailService renders image thumbnails from it in the background
+@Data
+@AllArgsConstructor
+public class AttachmentUploadedEvent {
+    private String contentHash;
+    private String contentType;
+}
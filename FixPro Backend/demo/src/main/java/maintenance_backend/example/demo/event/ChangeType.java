@@ -0,0 +1,7 @@
+package maintenance_backend.example.demo.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,15 @@
+package maintenance_backend.example.demo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.dto.ClientResponseDTO;
+
+// Published by ClientService on every write.
+// before is null for CREATED, after is null for DELETED.
+@Data
+@AllArgsConstructor
+public class ClientChangedEvent {
+    private ChangeType type;
+    private ClientResponseDTO before;
+    private ClientResponseDTO after;
+}
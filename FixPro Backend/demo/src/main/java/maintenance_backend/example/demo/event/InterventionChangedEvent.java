@@ -0,0 +1,19 @@
+package maintenance_backend.example.demo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+
+// Published by InterventionService on every write.
+// before is null for CREATED, after is null for DELETED.
+@Data
+@AllArgsConstructor
+public class InterventionChangedEvent {
+    private ChangeType type;
+    private InterventionResponseDTO before;
+    private InterventionResponseDTO after;
+
+    public InterventionResponseDTO current() {
+        return after != null ? after : before;
+    }
+}
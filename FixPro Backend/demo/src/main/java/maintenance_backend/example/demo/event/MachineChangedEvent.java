@@ -0,0 +1,23 @@
+package maintenance_backend.example.demo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+
+// Published by MachineService on every write.
+// before is null for CREATED, after is null for DELETED.
+@Data
+@AllArgsConstructor
+public class MachineChangedEvent {
+    private ChangeType type;
+    private MachineResponseDTO before;
+    private MachineResponseDTO after;
+
+    public MachineResponseDTO current() {
+        return after != null ? after : before;
+    }
+
+    public boolean statusChanged() {
+        return before == null || after == null || before.getStatus() != after.getStatus();
+    }
+}
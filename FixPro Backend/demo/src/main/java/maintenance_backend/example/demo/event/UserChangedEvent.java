@@ -0,0 +1,15 @@
+package maintenance_backend.example.demo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import maintenance_backend.example.demo.dto.UserResponseDTO;
+
+// Published by UserService on every write.
+// before is null for CREATED, after is null for DELETED.
+@Data
+@AllArgsConstructor
+public class UserChangedEvent {
+    private ChangeType type;
+    private UserResponseDTO before;
+    private UserResponseDTO after;
+}
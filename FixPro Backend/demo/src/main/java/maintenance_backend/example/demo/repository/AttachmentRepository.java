@@ -0,0 +1,28 @@
+package maintenance_backend.example.demo.repository;
+
+import maintenance_backend.example.demo.dto.AttachmentDTO;
+import maintenance_backend.example.demo.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.AttachmentDTO(
+            a.id, a.interventionId, a.fileName, a.contentType, a.size,
+            a.contentHash, a.uploadedById, a.createdAt)
+        FROM Attachment a
+        WHERE a.interventionId = :interventionId
+        ORDER BY a.createdAt, a.id
+    """)
+    List<AttachmentDTO> findDTOByInterventionId(Long interventionId);
+
+    List<Attachment> findByInterventionId(Long interventionId);
+
+    // Whether the stored file is still referenced
+    boolean existsByContentHash(String contentHash);
+}
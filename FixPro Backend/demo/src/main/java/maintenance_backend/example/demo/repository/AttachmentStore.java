@@ -0,0 +1,135 @@
+package maintenance_backend.example.demo.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+// Content-addressed file store for attachments:
+//   <dir>/blobs/ab/abcdef...     file bytes, named by their SHA-256
+//   <dir>/thumbs/ab/abcdef...jpg image thumbnails (ThumbnailService)
+//   <dir>/tmp/                   uploads being hashed, multipart spool
+// Identical uploads share one file. Adding and removing a file for the same
+// hash is serialised by a striped lock (ReentrantLock, so virtual threads
+// are not pinned) against the "still referenced?" check of the caller.
+@Repository
+public class AttachmentStore {
+
+    private static final int STRIPES = 64;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path blobs;
+    private final Path thumbs;
+    private final Path tmp;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public AttachmentStore(@Value("${attachments.dir}") Path dir) throws IOException {
+        this.blobs = Files.createDirectories(dir.resolve("blobs"));
+        this.thumbs = Files.createDirectories(dir.resolve("thumbs"));
+        this.tmp = Files.createDirectories(dir.resolve("tmp"));
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // An upload moved into the store but not yet published under its hash
+    public record Staged(Path file, String hash, long size) {
+    }
+
+    // Moves the uploaded part into tmp/ (a rename, since the multipart spool
+    // is on the same file system, see spring.servlet.multipart.location)
+    // and hashes it with one sequential read
+    public Staged stage(MultipartFile upload) throws IOException {
+        Path file = tmp.resolve(UUID.randomUUID() + ".part");
+        upload.transferTo(file);
+        try {
+            return new Staged(file, sha256(file), Files.size(file));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    // Publishes a staged upload under its hash, or drops it when the same
+    // content is already stored. Call after the referencing row is saved.
+    public void commit(Staged staged) throws IOException {
+        ReentrantLock lock = lock(staged.hash());
+        lock.lock();
+        try {
+            Path target = blob(staged.hash());
+            if (Files.exists(target)) {
+                Files.deleteIfExists(staged.file());
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(staged.file(), target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void discard(Staged staged) throws IOException {
+        Files.deleteIfExists(staged.file());
+    }
+
+    // Deletes the file (and thumbnail) of hash unless inUse says a row
+    // still references it
+    public void deleteIfUnused(String hash, BooleanSupplier inUse) throws IOException {
+        ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            if (!inUse.getAsBoolean()) {
+                Files.deleteIfExists(blob(hash));
+                Files.deleteIfExists(thumbnail(hash));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path blob(String hash) {
+        return blobs.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    public Path thumbnail(String hash) {
+        return thumbs.resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    // Temp file next to the final location, for atomic writes
+    public Path newTempFile() {
+        return tmp.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    private ReentrantLock lock(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), STRIPES)];
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
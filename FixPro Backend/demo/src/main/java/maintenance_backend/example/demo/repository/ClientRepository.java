@@ -1,8 +1,93 @@
 package maintenance_backend.example.demo.repository;
 
+import jakarta.persistence.QueryHint;
+import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Client;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> { }
+public interface ClientRepository extends JpaRepository<Client, Long> {
+
+    // Soft-deleted clients (deletedAt set) are left out of every query
+    // below; use this instead of findById
+    @Query("SELECT c FROM Client c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Client> findActiveById(Long id);
+
+    // Read-only projections straight into the response DTO;
+    // the full list is served from the query cache
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.ClientResponseDTO(
+            c.id, c.companyName, c.address, c.phone)
+        FROM Client c
+        WHERE c.deletedAt IS NULL
+    """)
+    List<ClientResponseDTO> findAllDTO();
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.ClientResponseDTO(
+            c.id, c.companyName, c.address, c.phone)
+        FROM Client c
+        WHERE c.id = :id AND c.deletedAt IS NULL
+    """)
+    Optional<ClientResponseDTO> findDTOById(Long id);
+
+    // Technician delta sync (SyncService): clients of the technician's
+    // machines; with since, only where the intervention, machine or client
+    // changed after it
+    @Query("""
+        SELECT DISTINCT new maintenance_backend.example.demo.dto.ClientResponseDTO(
+            c.id, c.companyName, c.address, c.phone)
+        FROM Intervention i
+        JOIN i.machine m
+        JOIN m.client c
+        WHERE i.technician.id = :technicianId AND c.deletedAt IS NULL
+    """)
+    List<ClientResponseDTO> findDTOByTechnicianId(Long technicianId);
+
+    @Query("""
+        SELECT DISTINCT new maintenance_backend.example.demo.dto.ClientResponseDTO(
+            c.id, c.companyName, c.address, c.phone)
+        FROM Intervention i
+        JOIN i.machine m
+        JOIN m.client c
+        WHERE i.technician.id = :technicianId AND c.deletedAt IS NULL
+          AND (i.updatedAt > :since OR m.updatedAt > :since OR c.updatedAt > :since)
+    """)
+    List<ClientResponseDTO> findDTOByTechnicianIdChangedAfter(Long technicianId, LocalDateTime since);
+
+    // Change fingerprints for conditional GETs (see VersionDTO)
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.VersionDTO(
+            COUNT(c), MAX(c.id), SUM(c.version), MAX(c.updatedAt))
+        FROM Client c
+        WHERE c.deletedAt IS NULL
+    """)
+    VersionDTO findTableVersion();
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.VersionDTO(c.id, c.version, c.updatedAt)
+        FROM Client c
+        WHERE c.id = :id AND c.deletedAt IS NULL
+    """)
+    Optional<VersionDTO> findVersionById(Long id);
+
+    // Soft delete; bumps version and updatedAt so the table fingerprint changes
+    @Modifying
+    @Query("""
+        UPDATE Client c
+        SET c.deletedAt = :now, c.updatedAt = :now, c.version = c.version + 1
+        WHERE c.id = :id AND c.deletedAt IS NULL
+    """)
+    int softDeleteById(Long id, LocalDateTime now);
+}
@@ -0,0 +1,69 @@
+package maintenance_backend.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// Dispatch queue over unassigned CREATED interventions (PostgreSQL-only,
+// partial index in V7__dispatch_queue.sql)
+@Repository
+@RequiredArgsConstructor
+public class DispatchRepository {
+
+    // Must match the indexed expression in V7__dispatch_queue.sql
+    private static final String PRIORITY_RANK =
+            "(CASE i.priority WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 WHEN 'LOW' THEN 2 ELSE 3 END)";
+
+    // Interventions of soft-deleted machines wait for SoftDeletePurger, not
+    // for a technician
+    private static final String QUEUED = "i.status = 'CREATED' AND i.technician_id IS NULL"
+            + " AND NOT EXISTS (SELECT 1 FROM machine m"
+            + "                 WHERE m.id = i.machine_id AND m.deleted_at IS NOT NULL)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public List<InterventionResponseDTO> findQueue(int limit) {
+        return jdbc.query(
+                "SELECT " + InterventionRowMapper.COLUMNS
+                        + " FROM intervention i"
+                        + " LEFT JOIN machine m ON m.id = i.machine_id"
+                        + " LEFT JOIN users t ON t.id = i.technician_id"
+                        + " WHERE " + QUEUED
+                        + " ORDER BY " + PRIORITY_RANK + ", i.created_at, i.id"
+                        + " LIMIT :limit",
+                new MapSqlParameterSource("limit", limit),
+                InterventionRowMapper.INSTANCE);
+    }
+
+    // Takes the head of the queue for a technician in one statement.
+    // SKIP LOCKED lets concurrent claims pass over a row another transaction
+    // is claiming instead of queueing behind it, and the outer WHERE is
+    // re-checked after the lock, so a row is never claimed twice.
+    // Must run inside a transaction; returns the claimed intervention id.
+    public Optional<Long> claimNext(Long technicianId, LocalDateTime now) {
+        List<Long> claimed = jdbc.queryForList(
+                "UPDATE intervention i"
+                        + " SET technician_id = :technicianId, status = 'ASSIGNED',"
+                        + "     version = i.version + 1, updated_at = :now"
+                        + " WHERE i.id = ("
+                        + "     SELECT i.id FROM intervention i"
+                        + "     WHERE " + QUEUED
+                        + "     ORDER BY " + PRIORITY_RANK + ", i.created_at, i.id"
+                        + "     LIMIT 1"
+                        + "     FOR UPDATE SKIP LOCKED)"
+                        + " AND " + QUEUED
+                        + " RETURNING i.id",
+                new MapSqlParameterSource()
+                        .addValue("technicianId", technicianId)
+                        .addValue("now", Timestamp.valueOf(now)),
+                Long.class);
+        return claimed.stream().findFirst();
+    }
+}
@@ -0,0 +1,130 @@
+package maintenance_backend.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.InterventionFilterDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Status;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Housekeeping SQL: monthly partitions of intervention, intervention_archive
+// and the sync removal log
+// (PostgreSQL-only, see V8__intervention_partitions.sql and V10)
+@Repository
+@RequiredArgsConstructor
+public class InterventionArchiveRepository {
+
+    private static final List<String> CLOSED = Arrays.stream(Status.values())
+            .filter(Status::isClosed)
+            .map(Status::name)
+            .toList();
+
+    private static final String ARCHIVED_COLUMNS =
+            "id, description, priority, status, created_at, machine_id, technician_id, version, updated_at";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    // Creates the missing monthly partitions from fromMonth to toMonth
+    // (inclusive); returns how many were created
+    public int ensurePartitions(LocalDate fromMonth, LocalDate toMonth) {
+        Integer created = jdbc.queryForObject(
+                "SELECT ensure_intervention_partitions(:from, :to)",
+                new MapSqlParameterSource()
+                        .addValue("from", Date.valueOf(fromMonth))
+                        .addValue("to", Date.valueOf(toMonth)),
+                Integer.class);
+        return created != null ? created : 0;
+    }
+
+    // Drops the emptied monthly partitions that end on or before beforeMonth
+    public int dropEmptyPartitions(LocalDate beforeMonth) {
+        Integer dropped = jdbc.queryForObject(
+                "SELECT drop_empty_intervention_partitions(:before)",
+                new MapSqlParameterSource("before", Date.valueOf(beforeMonth)),
+                Integer.class);
+        return dropped != null ? dropped : 0;
+    }
+
+    // Moves up to limit closed interventions created and last updated before
+    // cutoff into intervention_archive in one statement; an old row closed
+    // or edited recently stays until it has been quiet for as long. SKIP LOCKED leaves rows that
+    // are being updated right now for the next run. Returns the rows moved;
+    // must run inside a transaction.
+    public int archiveClosedBefore(LocalDateTime cutoff, LocalDateTime now, int limit) {
+        return jdbc.update(
+                "WITH moved AS ("
+                        + "   DELETE FROM intervention"
+                        + "   WHERE (id, created_at) IN ("
+                        + "       SELECT id, created_at FROM intervention"
+                        + "       WHERE status IN (:closed) AND created_at < :cutoff AND updated_at < :cutoff"
+                        + "       LIMIT :limit"
+                        + "       FOR UPDATE SKIP LOCKED)"
+                        + "   RETURNING " + ARCHIVED_COLUMNS + ")"
+                        + " INSERT INTO intervention_archive (" + ARCHIVED_COLUMNS + ", archived_at)"
+                        + " SELECT " + ARCHIVED_COLUMNS + ", :now FROM moved",
+                new MapSqlParameterSource()
+                        .addValue("closed", CLOSED)
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("limit", limit));
+    }
+
+    // Keyset page over archived interventions, ordered by createdAt DESC,
+    // id DESC like InterventionRepositoryCustom.findPage
+    public List<InterventionResponseDTO> findPage(InterventionFilterDTO filter,
+                                                  LocalDateTime afterCreatedAt,
+                                                  Long afterId,
+                                                  int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        List<String> where = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            where.add("i.status = :status");
+            params.addValue("status", filter.getStatus().name());
+        }
+        if (filter.getPriority() != null) {
+            where.add("i.priority = :priority");
+            params.addValue("priority", filter.getPriority().name());
+        }
+        if (filter.getMachineId() != null) {
+            where.add("i.machine_id = :machineId");
+            params.addValue("machineId", filter.getMachineId());
+        }
+        if (filter.getTechnicianId() != null) {
+            where.add("i.technician_id = :technicianId");
+            params.addValue("technicianId", filter.getTechnicianId());
+        }
+        if (filter.getFrom() != null) {
+            where.add("i.created_at >= :from");
+            params.addValue("from", Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            where.add("i.created_at < :to");
+            params.addValue("to", Timestamp.valueOf(filter.getTo()));
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            where.add("(i.created_at, i.id) < (:afterCreatedAt, :afterId)");
+            params.addValue("afterCreatedAt", Timestamp.valueOf(afterCreatedAt));
+            params.addValue("afterId", afterId);
+        }
+
+        return jdbc.query(
+                "SELECT " + InterventionRowMapper.COLUMNS
+                        + " FROM intervention_archive i"
+                        + " LEFT JOIN machine m ON m.id = i.machine_id"
+                        + " LEFT JOIN users t ON t.id = i.technician_id"
+                        + (where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where))
+                        + " ORDER BY i.created_at DESC, i.id DESC"
+                        + " LIMIT :limit",
+                params,
+                InterventionRowMapper.INSTANCE);
+    }
+}
@@ -1,15 +1,27 @@
 package maintenance_backend.example.demo.repository;
 
+import jakarta.persistence.LockModeType;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.SyncInterventionDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Intervention;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface InterventionRepository extends JpaRepository<Intervention, Long> {
+public interface InterventionRepository extends JpaRepository<Intervention, Long>,
+        InterventionRepositoryCustom {
 
     // Fetch all interventions with machine, client, and technician in one query
     @Query("""
@@ -30,5 +42,191 @@ public interface InterventionRepository extends JpaRepository<Intervention, Long
     """)
     Optional<Intervention> findByIdFull(Long id);
 
+    // machine/technician are LAZY: load them in the same select
+    @EntityGraph(attributePaths = {"machine", "machine.client", "technician"})
     List<Intervention> findByTechnicianId(Long technicianId);
+
+    // Read-only projections: select straight into the response DTO,
+    // no entity hydration or persistence-context snapshot. The lists leave
+    // out interventions of soft-deleted machines (kept until purged).
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.InterventionResponseDTO(
+            i.id, i.description, i.priority, i.status, i.createdAt,
+            m.id, m.name, t.id, t.name, i.version)
+        FROM Intervention i
+        LEFT JOIN i.machine m
+        LEFT JOIN i.technician t
+        WHERE m.deletedAt IS NULL
+    """)
+    List<InterventionResponseDTO> findAllDTO();
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.InterventionResponseDTO(
+            i.id, i.description, i.priority, i.status, i.createdAt,
+            m.id, m.name, t.id, t.name, i.version)
+        FROM Intervention i
+        LEFT JOIN i.machine m
+        LEFT JOIN i.technician t
+        WHERE i.id = :id
+    """)
+    Optional<InterventionResponseDTO> findDTOById(Long id);
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.InterventionResponseDTO(
+            i.id, i.description, i.priority, i.status, i.createdAt,
+            m.id, m.name, t.id, t.name, i.version)
+        FROM Intervention i
+        LEFT JOIN i.machine m
+        LEFT JOIN i.technician t
+        WHERE i.id IN :ids
+    """)
+    List<InterventionResponseDTO> findDTOByIdIn(Collection<Long> ids);
+
+    // Row versions, for telling which events a snapshot already contains
+    @Query("SELECT i.id, i.version FROM Intervention i WHERE i.id IN :ids")
+    List<Object[]> findVersionsByIdIn(Collection<Long> ids);
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.InterventionResponseDTO(
+            i.id, i.description, i.priority, i.status, i.createdAt,
+            m.id, m.name, t.id, t.name, i.version)
+        FROM Intervention i
+        LEFT JOIN i.machine m
+        JOIN i.technician t
+        WHERE t.id = :technicianId AND m.deletedAt IS NULL
+    """)
+    List<InterventionResponseDTO> findDTOByTechnicianId(Long technicianId);
+
+    // Technician delta sync (SyncService): all of the technician's
+    // interventions, or only those changed after since
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.SyncInterventionDTO(
+            i.id, i.description, i.priority, i.status, i.createdAt,
+            m.id, m.name, t.id, t.name, i.version, i.updatedAt)
+        FROM Intervention i
+        LEFT JOIN i.machine m
+        JOIN i.technician t
+        WHERE t.id = :technicianId
+    """)
+    List<SyncInterventionDTO> findSyncDTOByTechnicianId(Long technicianId);
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.SyncInterventionDTO(
+            i.id, i.description, i.priority, i.status, i.createdAt,
+            m.id, m.name, t.id, t.name, i.version, i.updatedAt)
+        FROM Intervention i
+        LEFT JOIN i.machine m
+        JOIN i.technician t
+        WHERE t.id = :technicianId AND i.updatedAt > :since
+    """)
+    List<SyncInterventionDTO> findSyncDTOByTechnicianIdChangedAfter(Long technicianId, LocalDateTime since);
+
+    // Interventions that left the technician after since and were not
+    // given back to them since (trigger-maintained, see V10__technician_sync.sql)
+    @Query(value = """
+        SELECT DISTINCT r.intervention_id FROM intervention_sync_removal r
+        WHERE r.technician_id = :technicianId AND r.removed_at > :since
+          AND NOT EXISTS (
+              SELECT 1 FROM intervention i
+              WHERE i.id = r.intervention_id AND i.technician_id = :technicianId)
+    """, nativeQuery = true)
+    List<Long> findRemovedIdsByTechnicianId(Long technicianId, LocalDateTime since);
+
+    // Forgets sync removals recorded before cutoff (tokens that old
+    // get a full sync instead, see SyncService)
+    @Modifying
+    @Query(value = "DELETE FROM intervention_sync_removal WHERE removed_at < :cutoff", nativeQuery = true)
+    int deleteSyncRemovalsBefore(LocalDateTime cutoff);
+
+    // Row locks for a batch of updates, taken in id order so concurrent
+    // batches cannot deadlock; load machine/technician with findByIdIn after
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Intervention i WHERE i.id IN :ids ORDER BY i.id")
+    List<Intervention> findAllByIdForUpdate(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"machine", "technician"})
+    List<Intervention> findByIdIn(Collection<Long> ids);
+
+    // Change fingerprint for conditional GETs (see VersionDTO); the payload
+    // shows machine and technician names, so their rows are part of it.
+    // technicianId restricts the lookup to that technician's interventions.
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.VersionDTO(
+            i.id, i.version, i.updatedAt,
+            m.id, m.version, m.updatedAt,
+            t.id, t.version, t.updatedAt)
+        FROM Intervention i
+        LEFT JOIN i.machine m
+        LEFT JOIN i.technician t
+        WHERE i.id = :id
+          AND (:technicianId IS NULL OR t.id = :technicianId)
+    """)
+    Optional<VersionDTO> findVersionById(Long id, Long technicianId);
+
+    // Reassign many interventions in a single UPDATE statement.
+    // Bulk updates bypass @Version/@UpdateTimestamp, so bump them here.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Intervention i
+        SET i.technician = :technician, i.version = i.version + 1, i.updatedAt = :now
+        WHERE i.id IN :ids
+    """)
+    int assignTechnician(List<Long> ids, User technician, LocalDateTime now);
+
+    // Single-field status transition without loading the entity. Guarded by
+    // the version the caller read, so a concurrent change makes it update
+    // nothing instead of overwriting.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Intervention i
+        SET i.status = :status, i.version = i.version + 1, i.updatedAt = :now
+        WHERE i.id = :id AND i.version = :expectedVersion
+    """)
+    int updateStatus(Long id, Long expectedVersion, Status status, LocalDateTime now);
+
+    // Aggregates for the statistics store rebuild
+    @Query("SELECT i.status, COUNT(i) FROM Intervention i GROUP BY i.status")
+    List<Object[]> countByStatus();
+
+    @Query("SELECT i.priority, COUNT(i) FROM Intervention i GROUP BY i.priority")
+    List<Object[]> countByPriority();
+
+    @Query("SELECT t.id, t.name, COUNT(i) FROM Intervention i JOIN i.technician t GROUP BY t.id, t.name")
+    List<Object[]> countByTechnician();
+
+    // Open load per technician for WorkloadService (status NULL counts as open)
+    @Query("""
+        SELECT t.id, i.status, i.priority, COUNT(i)
+        FROM Intervention i
+        JOIN i.technician t
+        WHERE i.status IS NULL
+           OR i.status NOT IN (maintenance_backend.example.demo.entity.Status.DONE,
+                               maintenance_backend.example.demo.entity.Status.CANCELLED)
+        GROUP BY t.id, i.status, i.priority
+    """)
+    List<Object[]> countOpenByTechnician();
+
+    // Interventions of deleted machines do not count for their client
+    @Query("""
+        SELECT m.client.id, COUNT(i)
+        FROM Intervention i
+        JOIN i.machine m
+        WHERE m.client IS NOT NULL AND m.deletedAt IS NULL
+        GROUP BY m.client.id
+    """)
+    List<Object[]> countByClient();
+
+    // Interventions moving with a machine to another client
+    long countByMachineId(Long machineId);
+
+    @Query("SELECT i.machine.id, COUNT(i) FROM Intervention i WHERE i.machine.id IN :machineIds GROUP BY i.machine.id")
+    List<Object[]> countByMachineIds(Collection<Long> machineIds);
+
+    @Query("""
+        SELECT cast(i.createdAt AS LocalDate), i.status, COUNT(i)
+        FROM Intervention i
+        WHERE i.createdAt >= :since
+        GROUP BY cast(i.createdAt AS LocalDate), i.status
+    """)
+    List<Object[]> countByDayAndStatus(LocalDateTime since);
 }
@@ -0,0 +1,23 @@
+package maintenance_backend.example.demo.repository;
+
+import maintenance_backend.example.demo.dto.InterventionFilterDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface InterventionRepositoryCustom {
+
+    // Keyset page ordered by createdAt DESC, id DESC.
+    // Pass null afterCreatedAt/afterId for the first page.
+    // Both queries only cover interventions.hot-window unless filter.history.
+    List<InterventionResponseDTO> findPage(InterventionFilterDTO filter,
+                                           LocalDateTime afterCreatedAt,
+                                           Long afterId,
+                                           int limit);
+
+    // Forward-only cursor over every matching row, same order as findPage.
+    // Must be consumed (and closed) inside a transaction.
+    Stream<InterventionResponseDTO> streamAll(InterventionFilterDTO filter);
+}
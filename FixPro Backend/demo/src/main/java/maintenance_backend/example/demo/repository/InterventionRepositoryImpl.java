@@ -0,0 +1,118 @@
+package maintenance_backend.example.demo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import maintenance_backend.example.demo.dto.InterventionFilterDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Intervention;
+import maintenance_backend.example.demo.entity.Machine;
+import maintenance_backend.example.demo.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class InterventionRepositoryImpl implements InterventionRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${interventions.hot-window:90d}")
+    private Duration hotWindow;
+
+    @Override
+    public List<InterventionResponseDTO> findPage(InterventionFilterDTO filter,
+                                                  LocalDateTime afterCreatedAt,
+                                                  Long afterId,
+                                                  int limit) {
+        return entityManager.createQuery(projectionQuery(filter, afterCreatedAt, afterId))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<InterventionResponseDTO> streamAll(InterventionFilterDTO filter) {
+        // The PostgreSQL driver only uses a server-side cursor when a fetch
+        // size is set and the connection is inside a transaction
+        return entityManager.createQuery(projectionQuery(filter, null, null))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<InterventionResponseDTO> projectionQuery(InterventionFilterDTO filter,
+                                                                   LocalDateTime afterCreatedAt,
+                                                                   Long afterId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InterventionResponseDTO> query = cb.createQuery(InterventionResponseDTO.class);
+        Root<Intervention> i = query.from(Intervention.class);
+        Join<Intervention, Machine> m = i.join("machine", JoinType.LEFT);
+        Join<Intervention, User> t = i.join("technician", JoinType.LEFT);
+
+        // Only add the predicates that are actually set, so the planner
+        // can pick the matching composite index
+        List<Predicate> where = new ArrayList<>();
+        // Interventions of soft-deleted machines are kept until purged
+        where.add(cb.isNull(m.get("deletedAt")));
+        if (filter.getStatus() != null) {
+            where.add(cb.equal(i.get("status"), filter.getStatus()));
+        }
+        if (filter.getPriority() != null) {
+            where.add(cb.equal(i.get("priority"), filter.getPriority()));
+        }
+        if (filter.getMachineId() != null) {
+            where.add(cb.equal(m.get("id"), filter.getMachineId()));
+        }
+        if (filter.getTechnicianId() != null) {
+            where.add(cb.equal(t.get("id"), filter.getTechnicianId()));
+        }
+        LocalDateTime from = filter.getFrom();
+        if (!filter.isHistory()) {
+            // Stay inside the hot window unless history is asked for, so the
+            // planner prunes the older monthly partitions
+            LocalDateTime hotFrom = LocalDateTime.now().minus(hotWindow);
+            if (from == null || from.isBefore(hotFrom)) {
+                from = hotFrom;
+            }
+        }
+        if (from != null) {
+            where.add(cb.greaterThanOrEqualTo(i.<LocalDateTime>get("createdAt"), from));
+        }
+        if (filter.getTo() != null) {
+            where.add(cb.lessThan(i.<LocalDateTime>get("createdAt"), filter.getTo()));
+        }
+
+        // Seek past the last row of the previous page
+        if (afterCreatedAt != null && afterId != null) {
+            where.add(cb.or(
+                    cb.lessThan(i.<LocalDateTime>get("createdAt"), afterCreatedAt),
+                    cb.and(
+                            cb.equal(i.get("createdAt"), afterCreatedAt),
+                            cb.lessThan(i.<Long>get("id"), afterId)
+                    )
+            ));
+        }
+
+        // Project straight into the DTO, no managed entities
+        return query.select(cb.construct(InterventionResponseDTO.class,
+                        i.get("id"), i.get("description"), i.get("priority"),
+                        i.get("status"), i.get("createdAt"),
+                        m.get("id"), m.get("name"),
+                        t.get("id"), t.get("name"),
+                        i.get("version")))
+                .where(where.toArray(new Predicate[0]))
+                .orderBy(cb.desc(i.get("createdAt")), cb.desc(i.get("id")));
+    }
+}
@@ -0,0 +1,51 @@
+package maintenance_backend.example.demo.repository;
+
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// Maps the native-SQL intervention projection used by SearchRepository and
+// DispatchRepository: i.*, machine_id, machine_name, technician_id, technician_name, version
+final class InterventionRowMapper implements RowMapper<InterventionResponseDTO> {
+
+    static final InterventionRowMapper INSTANCE = new InterventionRowMapper();
+
+    static final String COLUMNS = """
+            i.id, i.description, i.priority, i.status, i.created_at,
+            m.id AS machine_id, m.name AS machine_name,
+            t.id AS technician_id, t.name AS technician_name, i.version
+            """;
+
+    private InterventionRowMapper() {
+    }
+
+    @Override
+    public InterventionResponseDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new InterventionResponseDTO(
+                rs.getLong("id"),
+                rs.getString("description"),
+                enumValue(Priority.class, rs.getString("priority")),
+                enumValue(Status.class, rs.getString("status")),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                nullableLong(rs, "machine_id"),
+                rs.getString("machine_name"),
+                nullableLong(rs, "technician_id"),
+                rs.getString("technician_name"),
+                rs.getLong("version"));
+    }
+
+    static Long nullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
@@ -1,21 +1,144 @@
 package maintenance_backend.example.demo.repository;
 
+import jakarta.persistence.QueryHint;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Machine;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MachineRepository extends JpaRepository<Machine, Long> {
 
+    // Soft-deleted machines (deletedAt set) are left out of every query
+    // below; use these instead of findById / findAllById
+    @Query("SELECT m FROM Machine m WHERE m.id = :id AND m.deletedAt IS NULL")
+    Optional<Machine> findActiveById(Long id);
+
+    @Query("SELECT m FROM Machine m WHERE m.id IN :ids AND m.deletedAt IS NULL")
+    List<Machine> findAllActiveById(Collection<Long> ids);
+
     // Fetch all machines with clients in one query
-    @Query("SELECT m FROM Machine m LEFT JOIN FETCH m.client")
+    @Query("SELECT m FROM Machine m LEFT JOIN FETCH m.client WHERE m.deletedAt IS NULL")
     List<Machine> findAllWithClient();
 
     // Fetch one machine with its client
-    @Query("SELECT m FROM Machine m LEFT JOIN FETCH m.client WHERE m.id = :id")
+    @Query("SELECT m FROM Machine m LEFT JOIN FETCH m.client WHERE m.id = :id AND m.deletedAt IS NULL")
     Optional<Machine> findByIdWithClient(Long id);
+
+    // Read-only projections straight into the response DTO;
+    // the full list is served from the query cache
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.MachineResponseDTO(
+            m.id, m.name, m.serialNumber, m.status, c.id, c.companyName)
+        FROM Machine m
+        LEFT JOIN m.client c
+        WHERE m.deletedAt IS NULL
+    """)
+    List<MachineResponseDTO> findAllDTO();
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.MachineResponseDTO(
+            m.id, m.name, m.serialNumber, m.status, c.id, c.companyName)
+        FROM Machine m
+        LEFT JOIN m.client c
+        WHERE m.id = :id AND m.deletedAt IS NULL
+    """)
+    Optional<MachineResponseDTO> findDTOById(Long id);
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.MachineResponseDTO(
+            m.id, m.name, m.serialNumber, m.status, c.id, c.companyName)
+        FROM Machine m
+        LEFT JOIN m.client c
+        WHERE m.id IN :ids AND m.deletedAt IS NULL
+    """)
+    List<MachineResponseDTO> findDTOByIdIn(Collection<Long> ids);
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.MachineResponseDTO(
+            m.id, m.name, m.serialNumber, m.status, c.id, c.companyName)
+        FROM Machine m
+        JOIN m.client c
+        WHERE c.id = :clientId AND m.deletedAt IS NULL
+    """)
+    List<MachineResponseDTO> findDTOByClientId(Long clientId);
+
+    // Technician delta sync (SyncService): machines of the technician's
+    // interventions; with since, only where the intervention, machine or
+    // client changed after it
+    @Query("""
+        SELECT DISTINCT new maintenance_backend.example.demo.dto.MachineResponseDTO(
+            m.id, m.name, m.serialNumber, m.status, c.id, c.companyName)
+        FROM Intervention i
+        JOIN i.machine m
+        LEFT JOIN m.client c
+        WHERE i.technician.id = :technicianId AND m.deletedAt IS NULL
+    """)
+    List<MachineResponseDTO> findDTOByTechnicianId(Long technicianId);
+
+    @Query("""
+        SELECT DISTINCT new maintenance_backend.example.demo.dto.MachineResponseDTO(
+            m.id, m.name, m.serialNumber, m.status, c.id, c.companyName)
+        FROM Intervention i
+        JOIN i.machine m
+        LEFT JOIN m.client c
+        WHERE i.technician.id = :technicianId AND m.deletedAt IS NULL
+          AND (i.updatedAt > :since OR m.updatedAt > :since OR c.updatedAt > :since)
+    """)
+    List<MachineResponseDTO> findDTOByTechnicianIdChangedAfter(Long technicianId, LocalDateTime since);
+
+    // Change fingerprints for conditional GETs (see VersionDTO).
+    // Machine payloads include the client name, so the list also depends
+    // on ClientRepository.findTableVersion().
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.VersionDTO(
+            COUNT(m), MAX(m.id), SUM(m.version), MAX(m.updatedAt))
+        FROM Machine m
+        WHERE m.deletedAt IS NULL
+    """)
+    VersionDTO findTableVersion();
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.VersionDTO(
+            m.id, m.version, m.updatedAt, c.id, c.version, c.updatedAt)
+        FROM Machine m
+        LEFT JOIN m.client c
+        WHERE m.id = :id AND m.deletedAt IS NULL
+    """)
+    Optional<VersionDTO> findVersionById(Long id);
+
+    // Aggregates for the statistics store rebuild
+    @Query("SELECT m.status, COUNT(m) FROM Machine m WHERE m.deletedAt IS NULL GROUP BY m.status")
+    List<Object[]> countByStatus();
+
+    @Query("SELECT m.id, m.client.id FROM Machine m WHERE m.client IS NOT NULL AND m.deletedAt IS NULL")
+    List<Object[]> findMachineClientIds();
+
+    // Soft delete of one machine, or of all machines of a deleted client
+    @Modifying
+    @Query("""
+        UPDATE Machine m
+        SET m.deletedAt = :now, m.updatedAt = :now, m.version = m.version + 1
+        WHERE m.id = :id AND m.deletedAt IS NULL
+    """)
+    int softDeleteById(Long id, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE Machine m
+        SET m.deletedAt = :now, m.updatedAt = :now, m.version = m.version + 1
+        WHERE m.client.id = :clientId AND m.deletedAt IS NULL
+    """)
+    int softDeleteByClientId(Long clientId, LocalDateTime now);
 }
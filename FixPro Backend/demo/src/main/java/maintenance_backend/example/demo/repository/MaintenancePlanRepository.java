@@ -0,0 +1,56 @@
+package maintenance_backend.example.demo.repository;
+
+import maintenance_backend.example.demo.dto.MaintenancePlanResponseDTO;
+import maintenance_backend.example.demo.entity.MaintenancePlan;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MaintenancePlanRepository extends JpaRepository<MaintenancePlan, Long> {
+
+    // Head of the due-time queue (partial index idx_maintenance_plan_due);
+    // plans of soft-deleted machines wait for the purge
+    @Query("""
+        SELECT p FROM MaintenancePlan p
+        JOIN p.machine m
+        WHERE p.active = true AND p.nextDueAt <= :now AND m.deletedAt IS NULL
+        ORDER BY p.nextDueAt, p.id
+    """)
+    List<MaintenancePlan> findDue(LocalDateTime now, Limit limit);
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.MaintenancePlanResponseDTO(
+            p.id, m.id, m.name, p.description, p.priority, p.intervalDays, p.cron,
+            p.autoAssign, p.active, p.nextDueAt, p.lastGeneratedAt)
+        FROM MaintenancePlan p
+        JOIN p.machine m
+        WHERE m.deletedAt IS NULL
+        ORDER BY p.nextDueAt, p.id
+    """)
+    List<MaintenancePlanResponseDTO> findAllDTO();
+
+    @Query("""
+        SELECT new maintenance_backend.example.demo.dto.MaintenancePlanResponseDTO(
+            p.id, m.id, m.name, p.description, p.priority, p.intervalDays, p.cron,
+            p.autoAssign, p.active, p.nextDueAt, p.lastGeneratedAt)
+        FROM MaintenancePlan p
+        JOIN p.machine m
+        WHERE m.id = :machineId AND m.deletedAt IS NULL
+        ORDER BY p.nextDueAt, p.id
+    """)
+    List<MaintenancePlanResponseDTO> findAllDTOByMachineId(Long machineId);
+
+    @Query("SELECT p FROM MaintenancePlan p JOIN FETCH p.machine WHERE p.id = :id")
+    Optional<MaintenancePlan> findByIdWithMachine(Long id);
+
+    // Transaction-scoped PostgreSQL advisory lock: false when another
+    // transaction (on any instance) holds it; released on commit/rollback
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext(:name))", nativeQuery = true)
+    boolean tryAdvisoryXactLock(String name);
+}
@@ -0,0 +1,103 @@
+package maintenance_backend.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.entity.MachineStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// PostgreSQL-only search queries (indexes in V6__search_indexes.sql).
+// Callers pass limit = page size + 1 to detect a next page.
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    // Best-ranked matches kept per query; bounds the rows joined and sorted
+    // for very common terms so typeahead stays fast on large tables
+    private static final int INTERVENTION_CANDIDATES = 1000;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    // pattern: ILIKE pattern served by the trigram indexes,
+    // prefix: ILIKE 'term%' to rank serial number prefixes first
+    public List<MachineResponseDTO> searchMachines(String term, String pattern, String prefix,
+                                                   int limit, int offset) {
+        return jdbc.query("""
+                SELECT m.id, m.name, m.serial_number, m.status, c.id AS client_id, c.company_name
+                FROM machine m
+                LEFT JOIN client c ON c.id = m.client_id
+                WHERE (m.serial_number ILIKE :pattern OR m.name ILIKE :pattern)
+                  AND m.deleted_at IS NULL
+                ORDER BY (m.serial_number ILIKE :prefix) DESC,
+                         GREATEST(similarity(m.serial_number, :term), similarity(m.name, :term)) DESC,
+                         m.id
+                LIMIT :limit OFFSET :offset
+                """,
+                params(term, pattern, limit, offset).addValue("prefix", prefix),
+                (rs, n) -> new MachineResponseDTO(
+                        rs.getLong("id"),
+                        rs.getString("name"),
+                        rs.getString("serial_number"),
+                        InterventionRowMapper.enumValue(MachineStatus.class, rs.getString("status")),
+                        InterventionRowMapper.nullableLong(rs, "client_id"),
+                        rs.getString("company_name")));
+    }
+
+    public List<ClientResponseDTO> searchClients(String term, String pattern, int limit, int offset) {
+        return jdbc.query("""
+                SELECT c.id, c.company_name, c.address, c.phone
+                FROM client c
+                WHERE c.company_name ILIKE :pattern AND c.deleted_at IS NULL
+                ORDER BY similarity(c.company_name, :term) DESC, c.id
+                LIMIT :limit OFFSET :offset
+                """,
+                params(term, pattern, limit, offset),
+                (rs, n) -> new ClientResponseDTO(
+                        rs.getLong("id"),
+                        rs.getString("company_name"),
+                        rs.getString("address"),
+                        rs.getString("phone")));
+    }
+
+    // tsQuery: prefix-matching tsquery ('pump & valv:*'); pattern catches
+    // fragments inside words that full-text misses ('%ompress%')
+    public List<InterventionResponseDTO> searchInterventions(String tsQuery, String pattern,
+                                                             int limit, int offset) {
+        return jdbc.query("""
+                WITH candidates AS (
+                    SELECT i.id, ts_rank(i.description_tsv, q) AS rank
+                    FROM intervention i, to_tsquery('simple', :tsQuery) q
+                    WHERE i.description_tsv @@ q OR i.description ILIKE :pattern
+                    ORDER BY rank DESC, i.created_at DESC, i.id DESC
+                    LIMIT :candidates
+                )
+                SELECT """ + InterventionRowMapper.COLUMNS + """
+                FROM candidates c
+                JOIN intervention i ON i.id = c.id
+                LEFT JOIN machine m ON m.id = i.machine_id
+                LEFT JOIN users t ON t.id = i.technician_id
+                ORDER BY c.rank DESC, i.created_at DESC, i.id DESC
+                LIMIT :limit OFFSET :offset
+                """,
+                new MapSqlParameterSource()
+                        .addValue("tsQuery", tsQuery)
+                        .addValue("pattern", pattern)
+                        .addValue("candidates", INTERVENTION_CANDIDATES)
+                        .addValue("limit", limit)
+                        .addValue("offset", offset),
+                InterventionRowMapper.INSTANCE);
+    }
+
+    private static MapSqlParameterSource params(String term, String pattern, int limit, int offset) {
+        return new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("pattern", pattern)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+    }
+}
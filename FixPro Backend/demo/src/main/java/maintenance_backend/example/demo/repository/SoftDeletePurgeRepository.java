@@ -0,0 +1,74 @@
+package maintenance_backend.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Set-based removal of soft-deleted machines and clients (V12) and of what
+// hangs off them, children first, limit rows per statement. SKIP LOCKED
+// leaves rows another transaction (or instance) holds for the next batch.
+// PostgreSQL-only; each call must run inside a transaction.
+@Repository
+@RequiredArgsConstructor
+public class SoftDeletePurgeRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    // Interventions of deleted machines (idx_intervention_machine_created_at);
+    // returns the removed ids. The V10 trigger logs them for technician sync.
+    public List<Long> deleteInterventionsOfDeletedMachines(int limit) {
+        return jdbc.queryForList(
+                "WITH gone AS ("
+                        + "   DELETE FROM intervention"
+                        + "   WHERE (id, created_at) IN ("
+                        + "       SELECT i.id, i.created_at FROM intervention i"
+                        + "       JOIN machine m ON m.id = i.machine_id"
+                        + "       WHERE m.deleted_at IS NOT NULL"
+                        + "       LIMIT :limit"
+                        + "       FOR UPDATE OF i SKIP LOCKED)"
+                        + "   RETURNING id)"
+                        + " SELECT id FROM gone",
+                new MapSqlParameterSource("limit", limit),
+                Long.class);
+    }
+
+    // Attachment rows of removed interventions; returns their content
+    // hashes so the caller can release the stored files
+    public List<String> deleteAttachments(List<Long> interventionIds) {
+        if (interventionIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbc.queryForList(
+                "DELETE FROM attachment WHERE intervention_id IN (:ids) RETURNING content_hash",
+                new MapSqlParameterSource("ids", interventionIds),
+                String.class);
+    }
+
+    // Deleted machines with no interventions left; their maintenance plans
+    // go with them (ON DELETE CASCADE)
+    public int deleteMachines(int limit) {
+        return jdbc.update(
+                "DELETE FROM machine WHERE id IN ("
+                        + "   SELECT m.id FROM machine m"
+                        + "   WHERE m.deleted_at IS NOT NULL"
+                        + "     AND NOT EXISTS (SELECT 1 FROM intervention i WHERE i.machine_id = m.id)"
+                        + "   LIMIT :limit"
+                        + "   FOR UPDATE SKIP LOCKED)",
+                new MapSqlParameterSource("limit", limit));
+    }
+
+    // Deleted clients with no machines left
+    public int deleteClients(int limit) {
+        return jdbc.update(
+                "DELETE FROM client WHERE id IN ("
+                        + "   SELECT c.id FROM client c"
+                        + "   WHERE c.deleted_at IS NOT NULL"
+                        + "     AND NOT EXISTS (SELECT 1 FROM machine m WHERE m.client_id = c.id)"
+                        + "   LIMIT :limit"
+                        + "   FOR UPDATE SKIP LOCKED)",
+                new MapSqlParameterSource("limit", limit));
+    }
+}
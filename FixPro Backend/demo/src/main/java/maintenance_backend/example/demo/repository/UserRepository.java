@@ -1,12 +1,24 @@
 package maintenance_backend.example.demo.repository;
 
+import jakarta.persistence.QueryHint;
+import maintenance_backend.example.demo.entity.Role;
 import maintenance_backend.example.demo.entity.User;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Login and principal loading; the row itself comes from the users region
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.id, u.name FROM User u WHERE u.role = :role")
+    List<Object[]> findIdAndNameByRole(Role role);
 }
@@ -0,0 +1,218 @@
+package maintenance_backend.example.demo.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maintenance_backend.example.demo.config.ReferenceDataCache;
+import maintenance_backend.example.demo.entity.IdGeneration;
+import maintenance_backend.example.demo.entity.MachineStatus;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Role;
+import maintenance_backend.example.demo.entity.Status;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Bulk-loads a large, reproducible dataset for local load testing.
+// Enable with --spring.profiles.active=seed; sizes via seed.* properties.
+// Rows go through batched JDBC (multi-row inserts with
+// reWriteBatchedInserts=true) with ids taken from the pooled sequences.
+// Technicians are tech<n>@seed.local with password seed.technician-password.
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class DataSeeder implements CommandLineRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final MachineStatus[] MACHINE_STATUSES = MachineStatus.values();
+
+    // Varied free text so search (SearchRepository) sees realistic selectivity
+    private static final String[] FAULTS = {
+            "Replace worn bearing", "Hydraulic leak at main cylinder", "Recalibrate pressure sensor",
+            "Conveyor belt misalignment", "Overheating spindle motor", "Lubrication pump failure",
+            "Electrical cabinet inspection", "Emergency stop not responding", "Coolant filter clogged",
+            "Firmware update on PLC", "Noisy gearbox", "Vacuum pump loses suction",
+            "Compressor pressure drop", "Broken safety guard switch", "Annual preventive maintenance"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataCache referenceDataCache;
+
+    @Value("${seed.clients:100}")
+    private int clients;
+
+    @Value("${seed.machines-per-client:50}")
+    private int machinesPerClient;
+
+    @Value("${seed.interventions-per-machine:20}")
+    private int interventionsPerMachine;
+
+    @Value("${seed.technicians:200}")
+    private int technicians;
+
+    @Value("${seed.technician-password:password123}")
+    private String technicianPassword;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    public void run(String... args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = 'tech0@seed.local'", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("Seed data already present, skipping");
+            return;
+        }
+
+        Random random = new Random(randomSeed);
+        long start = System.currentTimeMillis();
+
+        long[] technicianIds = seedTechnicians();
+        long[] clientIds = seedClients();
+        long[] machineIds = seedMachines(clientIds, random);
+        long interventions = seedInterventions(machineIds, technicianIds, random);
+        // Plain JDBC bypasses Hibernate, so cached lists are now stale
+        referenceDataCache.evictAll();
+
+        log.info("Seeded {} technicians, {} clients, {} machines, {} interventions in {} ms",
+                technicianIds.length, clientIds.length, machineIds.length, interventions,
+                System.currentTimeMillis() - start);
+    }
+
+    private long[] seedTechnicians() {
+        // One BCrypt hash shared by every seeded technician
+        String hash = passwordEncoder.encode(technicianPassword);
+        IdBlock ids = new IdBlock("users_seq");
+        long[] result = new long[technicians];
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        for (int t = 0; t < technicians; t++) {
+            result[t] = ids.next();
+            rows.add(new Object[]{result[t], "Technician " + t, "tech" + t + "@seed.local",
+                    hash, Role.TECHNICIAN.name()});
+            flushIfFull(rows, "INSERT INTO users (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)");
+        }
+        flush(rows, "INSERT INTO users (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)");
+        return result;
+    }
+
+    private long[] seedClients() {
+        String sql = "INSERT INTO client (id, company_name, address, phone) VALUES (?, ?, ?, ?)";
+        IdBlock ids = new IdBlock("client_seq");
+        long[] result = new long[clients];
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        for (int c = 0; c < clients; c++) {
+            result[c] = ids.next();
+            rows.add(new Object[]{result[c], "Client " + c, c + " Industrial Park",
+                    String.format("+33 1 %08d", c)});
+            flushIfFull(rows, sql);
+        }
+        flush(rows, sql);
+        return result;
+    }
+
+    private long[] seedMachines(long[] clientIds, Random random) {
+        String sql = "INSERT INTO machine (id, name, serial_number, status, client_id) VALUES (?, ?, ?, ?, ?)";
+        IdBlock ids = new IdBlock("machine_seq");
+        long[] result = new long[clientIds.length * machinesPerClient];
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        int n = 0;
+        for (int c = 0; c < clientIds.length; c++) {
+            for (int m = 0; m < machinesPerClient; m++) {
+                result[n] = ids.next();
+                rows.add(new Object[]{result[n], "Machine " + c + "-" + m,
+                        String.format("SN-%06d-%04d", c, m),
+                        MACHINE_STATUSES[random.nextInt(MACHINE_STATUSES.length)].name(),
+                        clientIds[c]});
+                n++;
+                flushIfFull(rows, sql);
+            }
+        }
+        flush(rows, sql);
+        return result;
+    }
+
+    private long seedInterventions(long[] machineIds, long[] technicianIds, Random random) {
+        String sql = "INSERT INTO intervention (id, description, priority, status, created_at, machine_id, technician_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        IdBlock ids = new IdBlock("intervention_seq");
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        int twoYearsInMinutes = 2 * 365 * 24 * 60;
+
+        // Monthly partitions for the whole range, not the default partition
+        jdbcTemplate.queryForObject("SELECT ensure_intervention_partitions(?, ?)", Integer.class,
+                Date.valueOf(now.toLocalDate().minusYears(2)), Date.valueOf(now.toLocalDate()));
+
+        long count = 0;
+        for (long machineId : machineIds) {
+            for (int i = 0; i < interventionsPerMachine; i++) {
+                Status status = STATUSES[random.nextInt(STATUSES.length)];
+                Long technicianId = status == Status.CREATED || technicianIds.length == 0
+                        ? null
+                        : technicianIds[random.nextInt(technicianIds.length)];
+                rows.add(new Object[]{ids.next(),
+                        FAULTS[random.nextInt(FAULTS.length)] + " (#" + count + ")",
+                        PRIORITIES[random.nextInt(PRIORITIES.length)].name(),
+                        status.name(),
+                        Timestamp.valueOf(now.minusMinutes(random.nextInt(twoYearsInMinutes))),
+                        machineId,
+                        technicianId});
+                count++;
+                flushIfFull(rows, sql);
+            }
+        }
+        flush(rows, sql);
+        return count;
+    }
+
+    private void flushIfFull(List<Object[]> rows, String sql) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(rows, sql);
+        }
+    }
+
+    private void flush(List<Object[]> rows, String sql) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    // Same scheme as Hibernate's pooled optimizer, so seeded ids never
+    // collide with ids the application hands out afterwards
+    private class IdBlock {
+        private final String sequence;
+        private long next = 1;
+        private long hi = 0;
+
+        IdBlock(String sequence) {
+            this.sequence = sequence;
+        }
+
+        long next() {
+            if (next > hi) {
+                hi = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+                next = hi - IdGeneration.ALLOCATION_SIZE + 1;
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.AttachmentDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Attachment;
+import maintenance_backend.example.demo.entity.Role;
+import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.event.AttachmentUploadedEvent;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.repository.AttachmentRepository;
+import maintenance_backend.example.demo.repository.AttachmentStore;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Photos and PDFs attached to interventions. Technicians reach only the
+// attachments of their own interventions, admins all of them.
+@Service
+@RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
+public class AttachmentService {
+
+    private static final Set<String> ALLOWED_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/gif", "image/webp", "application/pdf");
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStore attachmentStore;
+    private final InterventionRepository interventionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // The file is hashed and stored before the row is written, with no
+    // transaction or heap buffer held meanwhile; a known hash reuses the
+    // stored file
+    public AttachmentDTO upload(Long interventionId, MultipartFile file, User user) {
+        checkAccess(interventionId, user);
+        if (file.isEmpty()) {
+            throw new RuntimeException("Empty file");
+        }
+        String contentType = file.getContentType();
+        if (contentType == null || !ALLOWED_TYPES.contains(contentType)) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Only images and PDFs can be attached");
+        }
+
+        try {
+            AttachmentStore.Staged staged = attachmentStore.stage(file);
+            Attachment attachment;
+            try {
+                attachment = new Attachment();
+                attachment.setInterventionId(interventionId);
+                attachment.setContentHash(staged.hash());
+                attachment.setContentType(contentType);
+                attachment.setFileName(file.getOriginalFilename());
+                attachment.setSize(staged.size());
+                attachment.setUploadedById(user.getId());
+                attachment = attachmentRepository.save(attachment);
+            } catch (RuntimeException e) {
+                attachmentStore.discard(staged);
+                throw e;
+            }
+            try {
+                attachmentStore.commit(staged);
+            } catch (IOException | RuntimeException e) {
+                // The row would point at a file that was never stored
+                attachmentRepository.delete(attachment);
+                attachmentStore.discard(staged);
+                throw e;
+            }
+
+            eventPublisher.publishEvent(new AttachmentUploadedEvent(staged.hash(), contentType));
+            return toDTO(attachment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store attachment", e);
+        }
+    }
+
+    public List<AttachmentDTO> getByIntervention(Long interventionId, User user) {
+        checkAccess(interventionId, user);
+        return attachmentRepository.findDTOByInterventionId(interventionId);
+    }
+
+    public AttachmentDTO getById(Long id, User user) {
+        Attachment attachment = attachmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Attachment not found"));
+        // Admins keep access after the intervention was archived
+        if (user.getRole() != Role.ADMIN) {
+            checkAccess(attachment.getInterventionId(), user);
+        }
+        return toDTO(attachment);
+    }
+
+    public Path getFile(AttachmentDTO attachment) {
+        return attachmentStore.blob(attachment.getContentHash());
+    }
+
+    // Empty while the thumbnail has not been rendered (or for PDFs)
+    public Optional<Path> getThumbnail(AttachmentDTO attachment) {
+        Path thumbnail = attachmentStore.thumbnail(attachment.getContentHash());
+        return Files.exists(thumbnail) ? Optional.of(thumbnail) : Optional.empty();
+    }
+
+    public void delete(Long id) {
+        attachmentRepository.findById(id).ifPresent(this::delete);
+    }
+
+    // Attachments go with their intervention
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterventionChanged(InterventionChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            attachmentRepository.findByInterventionId(event.getBefore().getId()).forEach(this::delete);
+        }
+    }
+
+    // Releases the stored files of attachment rows removed in bulk
+    // (SoftDeletePurger); files other rows still reference are kept
+    public void deleteFilesIfUnused(Collection<String> contentHashes) {
+        for (String hash : new HashSet<>(contentHashes)) {
+            deleteFileIfUnused(hash);
+        }
+    }
+
+    private void delete(Attachment attachment) {
+        attachmentRepository.delete(attachment);
+        deleteFileIfUnused(attachment.getContentHash());
+    }
+
+    private void deleteFileIfUnused(String hash) {
+        try {
+            attachmentStore.deleteIfUnused(hash, () -> attachmentRepository.existsByContentHash(hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete attachment file", e);
+        }
+    }
+
+    private void checkAccess(Long interventionId, User user) {
+        InterventionResponseDTO intervention = interventionRepository.findDTOById(interventionId)
+                .orElseThrow(() -> new RuntimeException("Intervention not found"));
+        if (user.getRole() == Role.TECHNICIAN && !user.getId().equals(intervention.getTechnicianId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Forbidden");
+        }
+    }
+
+    private AttachmentDTO toDTO(Attachment a) {
+        return new AttachmentDTO(
+                a.getId(),
+                a.getInterventionId(),
+                a.getFileName(),
+                a.getContentType(),
+                a.getSize(),
+                a.getContentHash(),
+                a.getUploadedById(),
+                a.getCreatedAt()
+        );
+    }
+}
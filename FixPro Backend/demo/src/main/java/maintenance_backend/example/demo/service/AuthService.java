@@ -1,5 +1,6 @@
 package maintenance_backend.example.demo.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import maintenance_backend.example.demo.config.JwtUtils;
 import maintenance_backend.example.demo.dto.LoginRequest;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
 public class AuthService {
 
     private final UserRepository userRepository;
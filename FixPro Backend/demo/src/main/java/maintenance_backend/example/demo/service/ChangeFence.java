@@ -0,0 +1,113 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.event.ClientChangedEvent;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.event.MachineChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Tells an in-memory reload (StatisticsService, WorkloadService) when
+// every change committed before its snapshot has reached the listeners.
+//
+// A change enters when its event is published inside the writing
+// transaction and leaves once that transaction has completed, i.e. after
+// the @TransactionalEventListeners ran. A reload takes its snapshot, then
+// calls awaitEarlier(): everything that entered before the call has left
+// when it returns, and anything entering later commits after the snapshot.
+// Writers never wait. This only holds if the *ChangedEvents are published
+// inside the transaction that makes the change, never after its commit.
+@Component
+public class ChangeFence {
+
+    // Changes inside per epoch, by parity: awaitEarlier() calls are
+    // serialised, so at most two epochs are live at a time
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLongArray inside = new AtomicLongArray(2);
+
+    private final ReentrantLock awaiting = new ReentrantLock();
+    private final ReentrantLock signal = new ReentrantLock();
+    private final Condition left = signal.newCondition();
+
+    @EventListener
+    public void onInterventionChanged(InterventionChangedEvent event) {
+        enter();
+    }
+
+    @EventListener
+    public void onMachineChanged(MachineChangedEvent event) {
+        enter();
+    }
+
+    @EventListener
+    public void onClientChanged(ClientChangedEvent event) {
+        enter();
+    }
+
+    // Returns once every change that entered before the call has committed
+    // (or rolled back) and been delivered
+    public void awaitEarlier() {
+        awaiting.lock();
+        try {
+            int slot = slot(epoch.getAndIncrement());
+            signal.lock();
+            try {
+                while (inside.get(slot) != 0) {
+                    left.awaitUninterruptibly();
+                }
+            } finally {
+                signal.unlock();
+            }
+        } finally {
+            awaiting.unlock();
+        }
+    }
+
+    private void enter() {
+        // Outside a transaction the listeners run right away
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        long entered;
+        while (true) {
+            entered = epoch.get();
+            inside.incrementAndGet(slot(entered));
+            if (epoch.get() == entered) {
+                break;
+            }
+            // An awaitEarlier() started meanwhile and may not count this
+            // one; enter the new epoch instead
+            leave(entered);
+        }
+
+        long epochEntered = entered;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                leave(epochEntered);
+            }
+        });
+    }
+
+    private void leave(long entered) {
+        if (inside.decrementAndGet(slot(entered)) == 0) {
+            signal.lock();
+            try {
+                left.signalAll();
+            } finally {
+                signal.unlock();
+            }
+        }
+    }
+
+    private static int slot(long epoch) {
+        return (int) (epoch & 1);
+    }
+}
@@ -1,53 +1,101 @@
 package maintenance_backend.example.demo.service;
 
+import io.micrometer.core.annotation.Timed;
+import maintenance_backend.example.demo.config.ReferenceDataCache;
 import maintenance_backend.example.demo.dto.ClientRequestDTO;
 import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Client;
+import maintenance_backend.example.demo.entity.Machine;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.ClientChangedEvent;
+import maintenance_backend.example.demo.event.MachineChangedEvent;
 import maintenance_backend.example.demo.repository.ClientRepository;
+import maintenance_backend.example.demo.repository.MachineRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
 public class ClientService {
 
     private final ClientRepository clientRepository;
+    private final MachineRepository machineRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
+    @Transactional
     public ClientResponseDTO createClient(ClientRequestDTO dto) {
         Client client = new Client();
         client.setCompanyName(dto.getCompanyName());
         client.setAddress(dto.getAddress());
         client.setPhone(dto.getPhone());
 
-        return toDTO(clientRepository.save(client));
+        ClientResponseDTO created = toDTO(clientRepository.save(client));
+        eventPublisher.publishEvent(new ClientChangedEvent(ChangeType.CREATED, null, created));
+        return created;
     }
 
+    @Transactional(readOnly = true)
     public List<ClientResponseDTO> getAllClients() {
-        return clientRepository.findAll()
-                .stream()
-                .map(this::toDTO)
-                .toList();
+        return clientRepository.findAllDTO();
     }
 
+    @Transactional(readOnly = true)
     public Optional<ClientResponseDTO> getClientById(Long id) {
-        return clientRepository.findById(id).map(this::toDTO);
+        return clientRepository.findDTOById(id);
     }
 
+    // Fingerprints for conditional GETs
+    @Transactional(readOnly = true)
+    public VersionDTO getAllClientsVersion() {
+        return clientRepository.findTableVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<VersionDTO> getClientVersion(Long id) {
+        return clientRepository.findVersionById(id);
+    }
+
+    @Transactional
     public ClientResponseDTO updateClient(Long id, ClientRequestDTO dto) {
-        Client client = clientRepository.findById(id).orElseThrow();
+        Client client = clientRepository.findActiveById(id)
+                .orElseThrow(() -> new RuntimeException("Client not found"));
+        ClientResponseDTO before = toDTO(client);
 
         client.setCompanyName(dto.getCompanyName());
         client.setAddress(dto.getAddress());
         client.setPhone(dto.getPhone());
 
-        return toDTO(clientRepository.save(client));
+        ClientResponseDTO after = toDTO(clientRepository.save(client));
+        eventPublisher.publishEvent(new ClientChangedEvent(ChangeType.UPDATED, before, after));
+        return after;
     }
 
+    // Soft delete of the client and its machines in two UPDATEs; their
+    // interventions are removed in batches by SoftDeletePurger. Each machine
+    // still gets its DELETED event, so listeners update incrementally.
+    @Transactional
     public void deleteClient(Long id) {
-        clientRepository.deleteById(id);
+        clientRepository.findDTOById(id).ifPresent(before -> {
+            List<MachineResponseDTO> machines = machineRepository.findDTOByClientId(id);
+            LocalDateTime now = LocalDateTime.now();
+            clientRepository.softDeleteById(id, now);
+            machineRepository.softDeleteByClientId(id, now);
+            referenceDataCache.evict(Client.class, id);
+            referenceDataCache.evict(Machine.class);
+            machines.forEach(machine ->
+                    eventPublisher.publishEvent(new MachineChangedEvent(ChangeType.DELETED, machine, null)));
+            eventPublisher.publishEvent(new ClientChangedEvent(ChangeType.DELETED, before, null));
+        });
     }
 
     private ClientResponseDTO toDTO(Client client) {
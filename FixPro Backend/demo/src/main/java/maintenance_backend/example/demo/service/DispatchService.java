@@ -0,0 +1,53 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.repository.DispatchRepository;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
+public class DispatchService {
+
+    private static final int DEFAULT_QUEUE_SIZE = 50;
+    private static final int MAX_QUEUE_SIZE = 200;
+
+    private final DispatchRepository dispatchRepository;
+    private final InterventionRepository interventionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Unassigned CREATED interventions, HIGH priority first, then oldest
+    public List<InterventionResponseDTO> getQueue(Integer size) {
+        int limit = size == null || size <= 0 ? DEFAULT_QUEUE_SIZE : Math.min(size, MAX_QUEUE_SIZE);
+        return dispatchRepository.findQueue(limit);
+    }
+
+    // Assigns the head of the queue to the technician; empty when the queue is
+    @Transactional
+    public Optional<InterventionResponseDTO> claimNext(User technician) {
+        return dispatchRepository.claimNext(technician.getId(), LocalDateTime.now())
+                .map(id -> {
+                    InterventionResponseDTO after = interventionRepository.findDTOById(id).orElseThrow();
+                    // Only queued rows can be claimed: unassigned and CREATED before
+                    InterventionResponseDTO before = new InterventionResponseDTO(
+                            after.getId(), after.getDescription(), after.getPriority(), Status.CREATED,
+                            after.getCreatedAt(), after.getMachineId(), after.getMachineName(), null, null,
+                            after.getVersion() - 1);
+                    eventPublisher.publishEvent(new InterventionChangedEvent(ChangeType.UPDATED, before, after));
+                    return after;
+                });
+    }
+}
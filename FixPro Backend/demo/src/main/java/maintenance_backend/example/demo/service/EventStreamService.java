@@ -0,0 +1,254 @@
+package maintenance_backend.example.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.event.MachineChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Server-sent-events feed of intervention and machine changes.
+//
+// SseEmitter is async, so subscribers do not hold a request thread.
+// Sequencing, buffering and fan-out happen on a single dispatcher thread,
+// which keeps event ids, the replay buffer and delivery order consistent
+// without locks. The dispatcher never writes to a connection: each
+// subscriber has a bounded outbox drained by its own sender (a virtual
+// thread), so a client that stops reading only delays itself. One that
+// falls MAX_PENDING events behind is disconnected and catches up through
+// Last-Event-ID.
+//
+// Event ids start at the boot time (epoch millis << 20), so ids of an
+// earlier run are always lower. A Last-Event-ID from before this boot, or
+// older than the replay buffer, gets a "resync" event instead of a partial
+// replay: the client must refetch its lists.
+@Service
+public class EventStreamService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final long HEARTBEAT_SECONDS = 25;
+    private static final int REPLAY_BUFFER_SIZE = 1000;
+    // Below the replay buffer size, so a dropped client can still replay
+    private static final int MAX_PENDING = 500;
+    private static final String RESYNC = "resync";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Confined to the dispatcher thread
+    private final Deque<StreamEvent> replayBuffer = new ArrayDeque<>(REPLAY_BUFFER_SIZE);
+    private final long firstSequence = System.currentTimeMillis() << 20;
+    private long sequence = firstSequence;
+
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sse-dispatcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EventStreamService() {
+        dispatcher.scheduleAtFixedRate(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // technicianId == null subscribes to everything (admin).
+    // lastEventId replays buffered events the client missed while disconnected.
+    public SseEmitter subscribe(Long technicianId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter, technicianId);
+
+        emitter.onCompletion(subscriber::markClosed);
+        emitter.onTimeout(subscriber::markClosed);
+        emitter.onError(e -> subscriber.markClosed());
+
+        dispatcher.execute(() -> {
+            if (lastEventId != null && !canReplayFrom(lastEventId)) {
+                send(subscriber, new StreamEvent(sequence, RESYNC, RESYNC, null, null, false));
+            } else if (lastEventId != null) {
+                for (StreamEvent event : replayBuffer) {
+                    if (event.id() > lastEventId) {
+                        send(subscriber, event);
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+            // The emitter may have completed before the add, whose remove
+            // then had nothing to remove
+            if (subscriber.isClosed()) {
+                subscribers.remove(subscriber);
+            }
+        });
+
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterventionChanged(InterventionChangedEvent event) {
+        InterventionResponseDTO before = event.getBefore();
+        InterventionResponseDTO after = event.getAfter();
+        Long oldTechnician = before != null ? before.getTechnicianId() : null;
+        Long newTechnician = after != null ? after.getTechnicianId() : null;
+
+        publish("intervention." + event.getType().name().toLowerCase(),
+                event.current(), oldTechnician, newTechnician, false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMachineChanged(MachineChangedEvent event) {
+        if (!event.statusChanged()) {
+            return;
+        }
+        publish("machine." + event.getType().name().toLowerCase(),
+                event.current(), null, null, true);
+    }
+
+    private void publish(String name, Object data, Long oldTechnician, Long newTechnician, boolean adminOnly) {
+        dispatcher.execute(() -> {
+            StreamEvent event = new StreamEvent(++sequence, name, data, oldTechnician, newTechnician, adminOnly);
+            if (replayBuffer.size() == REPLAY_BUFFER_SIZE) {
+                replayBuffer.removeFirst();
+            }
+            replayBuffer.addLast(event);
+
+            for (Subscriber subscriber : subscribers) {
+                send(subscriber, event);
+            }
+        });
+    }
+
+    // Confined to the dispatcher thread
+    private boolean canReplayFrom(long lastEventId) {
+        if (lastEventId < firstSequence || lastEventId > sequence) {
+            return false;
+        }
+        StreamEvent oldest = replayBuffer.peekFirst();
+        return oldest == null || lastEventId >= oldest.id() - 1;
+    }
+
+    private void send(Subscriber subscriber, StreamEvent event) {
+        if (event.visibleTo(subscriber.technicianId)) {
+            subscriber.offer(SseEmitter.event()
+                    .id(Long.toString(event.id()))
+                    .name(event.name())
+                    .data(event.data()));
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    // The outbox is filled by the dispatcher and drained by at most one
+    // sender at a time, which keeps this subscriber's events in order
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long technicianId;
+        private final Queue<SseEmitter.SseEventBuilder> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Long technicianId) {
+            this.emitter = emitter;
+            this.technicianId = technicianId;
+        }
+
+        void offer(SseEmitter.SseEventBuilder message) {
+            if (closed.get()) {
+                return;
+            }
+            if (pending.incrementAndGet() > MAX_PENDING) {
+                // Too far behind; it will reconnect with Last-Event-ID
+                close(null);
+                return;
+            }
+            outbox.add(message);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder message;
+                while (!closed.get() && (message = outbox.poll()) != null) {
+                    pending.decrementAndGet();
+                    try {
+                        emitter.send(message);
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away; it will reconnect with Last-Event-ID
+                        close(e);
+                    }
+                }
+                draining.set(false);
+                // Offers made between the last poll and the reset
+            } while (!closed.get() && !outbox.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close(Throwable error) {
+            if (markClosed()) {
+                // On a sender: completing waits for a send in progress
+                senders.execute(() -> {
+                    if (error != null) {
+                        emitter.completeWithError(error);
+                    } else {
+                        emitter.complete();
+                    }
+                });
+            }
+        }
+
+        // Emitter callbacks land here once it is completed, timed out or failed
+        boolean markClosed() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.remove(this);
+            outbox.clear();
+            return true;
+        }
+
+        boolean isClosed() {
+            return closed.get();
+        }
+    }
+
+    private record StreamEvent(long id, String name, Object data,
+                               Long oldTechnician, Long newTechnician, boolean adminOnly) {
+
+        boolean visibleTo(Long technicianId) {
+            if (technicianId == null) {
+                return true;
+            }
+            return !adminOnly
+                    && (Objects.equals(technicianId, oldTechnician) || Objects.equals(technicianId, newTechnician));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maintenance_backend.example.demo.repository.InterventionArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Archiving for the monthly intervention partitions (V8):
+// - moves closed interventions created and last updated more than
+//   closed-after ago to intervention_archive, one short transaction per batch
+// - drops the old monthly partitions that archiving emptied
+// Statistics are reloaded afterwards, they only count live interventions.
+// Partition creation lives in InterventionPartitionMaintainer so it keeps
+// running when this is off. PostgreSQL-only; disable with
+// interventions.archive.enabled=false.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "interventions.archive.enabled", havingValue = "true", matchIfMissing = true)
+@Timed(value = "fixpro.service", histogram = true)
+public class InterventionArchiver {
+
+    private final InterventionArchiveRepository interventionArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StatisticsService statisticsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${interventions.archive.closed-after:180d}")
+    private Duration closedAfter;
+
+    @Value("${interventions.archive.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${interventions.archive.cron:0 30 2 * * *}")
+    public void archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(closedAfter);
+
+        long moved = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(
+                    status -> interventionArchiveRepository.archiveClosedBefore(cutoff, now, batchSize));
+            moved += batch;
+        } while (batch == batchSize);
+
+        // Months wholly before the cutoff are empty once their open work
+        // has been closed and archived
+        int dropped = interventionArchiveRepository.dropEmptyPartitions(cutoff.toLocalDate().withDayOfMonth(1));
+
+        if (moved > 0) {
+            statisticsService.rebuild();
+        }
+        meterRegistry.counter("interventions.archived").increment(moved);
+        meterRegistry.counter("interventions.partitions.dropped").increment(dropped);
+        log.info("Archived {} interventions, dropped {} partitions", moved, dropped);
+    }
+}
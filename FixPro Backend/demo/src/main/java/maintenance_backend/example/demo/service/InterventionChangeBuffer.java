@@ -0,0 +1,58 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Intervention events a reload received while reading its snapshot, per
+// row. Some are for commits the snapshot already contains; replay() passes
+// on only the others, told apart by the row version the snapshot saw:
+// - row in the snapshot at version v: the events that start from v or later
+// - row not in the snapshot: all of them, unless one is its deletion (then
+//   it was deleted before the snapshot, or created and deleted after it,
+//   and its events cancel out either way)
+final class InterventionChangeBuffer {
+
+    private static final int VERSION_BATCH = 1000;
+
+    private final Map<Long, List<InterventionChangedEvent>> events = new ConcurrentHashMap<>();
+
+    void add(InterventionChangedEvent event) {
+        events.computeIfAbsent(event.current().getId(), id -> new CopyOnWriteArrayList<>()).add(event);
+    }
+
+    // Versions of the buffered rows, read inside the snapshot transaction
+    Map<Long, Long> snapshotVersions(InterventionRepository interventionRepository) {
+        Map<Long, Long> versions = new HashMap<>();
+        List<Long> ids = new ArrayList<>(events.keySet());
+        for (int from = 0; from < ids.size(); from += VERSION_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + VERSION_BATCH, ids.size()));
+            for (Object[] row : interventionRepository.findVersionsByIdIn(batch)) {
+                versions.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return versions;
+    }
+
+    void replay(Map<Long, Long> snapshotVersions, Consumer<InterventionChangedEvent> apply) {
+        events.forEach((id, rowEvents) -> {
+            Long seen = snapshotVersions.get(id);
+            if (seen == null && rowEvents.stream().anyMatch(e -> e.getType() == ChangeType.DELETED)) {
+                return;
+            }
+            for (InterventionChangedEvent event : rowEvents) {
+                if (seen == null || (event.getBefore() != null && event.getBefore().getVersion() >= seen)) {
+                    apply.accept(event);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package maintenance_backend.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.InterventionFilterDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class InterventionExportService {
+
+    // Flush regularly so the client starts receiving bytes right away
+    private static final int FLUSH_EVERY = 500;
+
+    private static final String CSV_HEADER =
+            "id,description,priority,status,createdAt,machineId,machineName,technicianId,technicianName";
+
+    private final InterventionRepository interventionRepository;
+    private final JsonMapper jsonMapper;
+
+    @Transactional(readOnly = true)
+    public void exportCsv(InterventionFilterDTO filter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        write(filter, writer, i -> String.join(",",
+                csv(i.getId()),
+                csv(i.getDescription()),
+                csv(i.getPriority()),
+                csv(i.getStatus()),
+                csv(i.getCreatedAt()),
+                csv(i.getMachineId()),
+                csv(i.getMachineName()),
+                csv(i.getTechnicianId()),
+                csv(i.getTechnicianName())));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportNdjson(InterventionFilterDTO filter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        write(filter, writer, jsonMapper::writeValueAsString);
+    }
+
+    private void write(InterventionFilterDTO filter,
+                       Writer writer,
+                       Function<InterventionResponseDTO, String> line) throws IOException {
+        try (Stream<InterventionResponseDTO> rows = interventionRepository.streamAll(filter)) {
+            Iterator<InterventionResponseDTO> it = rows.iterator();
+            int count = 0;
+            while (it.hasNext()) {
+                writer.write(line.apply(it.next()));
+                writer.write('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    // RFC 4180: quote when needed, double embedded quotes
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String s = value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
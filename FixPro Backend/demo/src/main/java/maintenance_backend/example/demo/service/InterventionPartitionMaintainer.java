@@ -0,0 +1,44 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maintenance_backend.example.demo.repository.InterventionArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+// Creates the next months' intervention partitions (V8) ahead of time, so
+// new rows never land in the default partition. Runs whether or not
+// archiving is enabled. PostgreSQL-only; the H2 tests turn it off with
+// interventions.partitions.enabled=false.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "interventions.partitions.enabled", havingValue = "true", matchIfMissing = true)
+@Timed(value = "fixpro.service", histogram = true)
+public class InterventionPartitionMaintainer {
+
+    private final InterventionArchiveRepository interventionArchiveRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${interventions.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${interventions.partitions.cron:0 0 2 * * *}")
+    public void ensurePartitions() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        int created = interventionArchiveRepository.ensurePartitions(month, month.plusMonths(monthsAhead));
+        if (created > 0) {
+            meterRegistry.counter("interventions.partitions.created").increment(created);
+            log.info("Created {} intervention partitions", created);
+        }
+    }
+}
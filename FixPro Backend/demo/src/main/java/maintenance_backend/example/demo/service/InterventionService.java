@@ -1,29 +1,79 @@
 package maintenance_backend.example.demo.service;
 
+import io.micrometer.core.annotation.Timed;
+import maintenance_backend.example.demo.dto.InterventionBulkAssignDTO;
+import maintenance_backend.example.demo.dto.InterventionFilterDTO;
+import maintenance_backend.example.demo.dto.InterventionPageDTO;
 import maintenance_backend.example.demo.dto.InterventionRequestDTO;
 import maintenance_backend.example.demo.dto.InterventionResponseDTO;
 import maintenance_backend.example.demo.dto.InterventionTechnicianUpdateDTO;
+import maintenance_backend.example.demo.dto.SyncInterventionDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Intervention;
+import maintenance_backend.example.demo.entity.Machine;
+import maintenance_backend.example.demo.entity.Role;
+import maintenance_backend.example.demo.entity.Status;
 import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.repository.InterventionArchiveRepository;
 import maintenance_backend.example.demo.repository.InterventionRepository;
 import lombok.RequiredArgsConstructor;
 import maintenance_backend.example.demo.repository.MachineRepository;
 import maintenance_backend.example.demo.repository.UserRepository;
+import maintenance_backend.example.demo.service.WorkloadService.Reservation;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
 public class InterventionService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
     private final InterventionRepository interventionRepository;
+    private final InterventionArchiveRepository interventionArchiveRepository;
     private final MachineRepository machineRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkloadService workloadService;
 
     // Create new intervention
     public InterventionResponseDTO create(InterventionRequestDTO dto) {
+        Optional<Reservation> reservation = reserveTechnician(dto, true);
+        try {
+            return transactionTemplate.execute(tx -> create(dto, reservation));
+        } finally {
+            reservation.ifPresent(workloadService::releaseWhenApplied);
+        }
+    }
+
+    private InterventionResponseDTO create(InterventionRequestDTO dto, Optional<Reservation> reservation) {
         Intervention intervention = new Intervention();
         intervention.setDescription(dto.getDescription());
         intervention.setPriority(dto.getPriority());
@@ -31,104 +81,441 @@ public class InterventionService {
 
         if (dto.getMachineId() != null) {
             intervention.setMachine(
-                    machineRepository.findById(dto.getMachineId())
+                    machineRepository.findActiveById(dto.getMachineId())
                             .orElseThrow(() -> new RuntimeException("Machine not found"))
             );
         }
 
-        if (dto.getTechnicianId() != null) {
+        Long technicianId = reservation.map(Reservation::technicianId).orElse(dto.getTechnicianId());
+        if (technicianId != null) {
             intervention.setTechnician(
-                    userRepository.findById(dto.getTechnicianId())
+                    userRepository.findById(technicianId)
                             .orElseThrow(() -> new RuntimeException("Technician not found"))
             );
         }
+        if (reservation.isPresent()) {
+            markAssigned(intervention);
+        }
+
+        InterventionResponseDTO created = toDTO(interventionRepository.save(intervention));
+        publish(ChangeType.CREATED, null, created);
+        return created;
+    }
 
-        return toDTO(interventionRepository.save(intervention));
+    // Create many interventions at once: one IN query per referenced
+    // entity type, then batched inserts
+    @Transactional
+    public List<InterventionResponseDTO> createAll(List<InterventionRequestDTO> dtos) {
+        return createAll(dtos, true);
     }
 
+    // With requireTechnician false, autoAssign rows that find no technician
+    // are created unassigned instead of failing the whole batch (plan
+    // generation: one missing technician must not hold back every due plan)
+    @Transactional
+    public List<InterventionResponseDTO> createAll(List<InterventionRequestDTO> dtos, boolean requireTechnician) {
+        if (dtos.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("Too many interventions (max " + MAX_BULK_SIZE + ")");
+        }
+
+        Map<Long, Machine> machines = machineRepository.findAllActiveById(
+                        dtos.stream().map(InterventionRequestDTO::getMachineId)
+                                .filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Machine::getId, Function.identity()));
+
+        // Auto-assigned rows get their technician up front; the reservations
+        // are held until the CREATED events have been applied after commit
+        List<Optional<Reservation>> reservations = new ArrayList<>(dtos.size());
+        for (InterventionRequestDTO dto : dtos) {
+            Optional<Reservation> reservation = reserveTechnician(dto, requireTechnician);
+            reservation.ifPresent(workloadService::releaseWhenApplied);
+            reservations.add(reservation);
+        }
+
+        Map<Long, User> technicians = userRepository.findAllById(
+                        Stream.concat(
+                                dtos.stream().map(InterventionRequestDTO::getTechnicianId),
+                                reservations.stream().flatMap(Optional::stream).map(Reservation::technicianId))
+                                .filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Intervention> interventions = new ArrayList<>(dtos.size());
+        for (int n = 0; n < dtos.size(); n++) {
+            InterventionRequestDTO dto = dtos.get(n);
+            Optional<Reservation> reservation = reservations.get(n);
+            Intervention intervention = new Intervention();
+            intervention.setDescription(dto.getDescription());
+            intervention.setPriority(dto.getPriority());
+            intervention.setStatus(dto.getStatus());
+
+            if (dto.getMachineId() != null) {
+                Machine machine = machines.get(dto.getMachineId());
+                if (machine == null) {
+                    throw new RuntimeException("Machine not found: " + dto.getMachineId());
+                }
+                intervention.setMachine(machine);
+            }
+
+            Long technicianId = reservation.map(Reservation::technicianId).orElse(dto.getTechnicianId());
+            if (technicianId != null) {
+                User technician = technicians.get(technicianId);
+                if (technician == null) {
+                    throw new RuntimeException("Technician not found: " + technicianId);
+                }
+                intervention.setTechnician(technician);
+            }
+            if (reservation.isPresent()) {
+                markAssigned(intervention);
+            }
+
+            interventions.add(intervention);
+        }
+
+        List<InterventionResponseDTO> created = interventionRepository.saveAll(interventions)
+                .stream()
+                .map(InterventionService::toDTO)
+                .toList();
+        created.forEach(dto -> publish(ChangeType.CREATED, null, dto));
+        return created;
+    }
+
+    // Reassign many interventions to one technician in a single UPDATE
+    @Transactional
+    public int assignTechnician(InterventionBulkAssignDTO dto) {
+        if (dto.getInterventionIds() == null || dto.getInterventionIds().isEmpty()) {
+            return 0;
+        }
+        if (dto.getInterventionIds().size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("Too many interventions (max " + MAX_BULK_SIZE + ")");
+        }
+
+        User technician = userRepository.findById(dto.getTechnicianId())
+                .orElseThrow(() -> new RuntimeException("Technician not found"));
+
+        // Rows locked up front, so the snapshot before the UPDATE (who lost
+        // the work) is exact
+        interventionRepository.findAllByIdForUpdate(dto.getInterventionIds());
+        List<InterventionResponseDTO> before = interventionRepository.findDTOByIdIn(dto.getInterventionIds());
+        int updated = interventionRepository.assignTechnician(
+                dto.getInterventionIds(), technician, LocalDateTime.now());
+
+        for (InterventionResponseDTO old : before) {
+            InterventionResponseDTO now = new InterventionResponseDTO(
+                    old.getId(), old.getDescription(), old.getPriority(), old.getStatus(),
+                    old.getCreatedAt(), old.getMachineId(), old.getMachineName(),
+                    technician.getId(), technician.getName(), old.getVersion() + 1);
+            publish(ChangeType.UPDATED, old, now);
+        }
+        return updated;
+    }
+
+    // Technician update (status and/or description).
+    // ifMatch is the If-Match header (ETag from GET /{id}), or null.
     public InterventionResponseDTO technicianUpdate(
             Long id,
             InterventionTechnicianUpdateDTO dto,
-            User user
+            User user,
+            String ifMatch
     ) {
-        Intervention intervention = interventionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Intervention not found"));
+        Long expectedVersion = checkIfMatch(id, user, ifMatch);
+        boolean descriptionChanged = dto.getDescription() != null && !dto.getDescription().isBlank();
 
-        // ownership check
-        if (!intervention.getTechnician().getId().equals(user.getId())) {
-            throw new RuntimeException("Forbidden");
+        if (dto.getStatus() != null && !descriptionChanged) {
+            return updateStatus(id, dto.getStatus(), user, expectedVersion);
         }
 
-        if (dto.getStatus() != null) {
-            intervention.setStatus(dto.getStatus());
-        }
+        return updateWithRetry(id, expectedVersion,
+                before -> Arrays.asList(
+                        dto.getStatus() != null ? before.getStatus() : null,
+                        descriptionChanged ? before.getDescription() : null),
+                intervention -> {
+                    // ownership check
+                    if (!intervention.getTechnician().getId().equals(user.getId())) {
+                        throw new RuntimeException("Forbidden");
+                    }
 
-        if (dto.getDescription() != null && !dto.getDescription().isBlank()) {
-            intervention.setDescription(dto.getDescription());
-        }
+                    if (dto.getStatus() != null) {
+                        intervention.setStatus(dto.getStatus());
+                    }
 
-        return toDTO(interventionRepository.save(intervention));
+                    if (descriptionChanged) {
+                        intervention.setDescription(dto.getDescription());
+                    }
+                });
     }
 
-    // Update intervention
-    public InterventionResponseDTO update(Long id, InterventionRequestDTO dto) {
-        Intervention intervention = getEntityById(id);
+    // Update intervention (Admin, every field)
+    public InterventionResponseDTO update(Long id, InterventionRequestDTO dto, User user, String ifMatch) {
+        Long expectedVersion = checkIfMatch(id, user, ifMatch);
 
-        intervention.setDescription(dto.getDescription());
-        intervention.setPriority(dto.getPriority());
-        intervention.setStatus(dto.getStatus());
+        return updateWithRetry(id, expectedVersion,
+                before -> Arrays.asList(
+                        before.getDescription(), before.getPriority(), before.getStatus(),
+                        before.getMachineId(), before.getTechnicianId()),
+                intervention -> {
+                    intervention.setDescription(dto.getDescription());
+                    intervention.setPriority(dto.getPriority());
+                    intervention.setStatus(dto.getStatus());
 
-        if (dto.getMachineId() != null) {
-            intervention.setMachine(
-                    machineRepository.findById(dto.getMachineId())
-                            .orElseThrow(() -> new RuntimeException("Machine not found"))
-            );
+                    if (dto.getMachineId() != null) {
+                        intervention.setMachine(
+                                machineRepository.findActiveById(dto.getMachineId())
+                                        .orElseThrow(() -> new RuntimeException("Machine not found"))
+                        );
+                    }
+
+                    if (dto.getTechnicianId() != null) {
+                        intervention.setTechnician(
+                                userRepository.findById(dto.getTechnicianId())
+                                        .orElseThrow(() -> new RuntimeException("Technician not found"))
+                        );
+                    }
+                });
+    }
+
+    // Status-only transition: one guarded UPDATE instead of load + merge + update.
+    // The guard on the version read keeps the before/after in the event exact
+    // (statistics count transitions); when it misses, re-read and try again.
+    private InterventionResponseDTO updateStatus(Long id, Status status, User user, Long expectedVersion) {
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            InterventionResponseDTO before = interventionRepository.findDTOById(id)
+                    .orElseThrow(() -> new RuntimeException("Intervention not found"));
+
+            // ownership check
+            if (!user.getId().equals(before.getTechnicianId())) {
+                throw new RuntimeException("Forbidden");
+            }
+            if (expectedVersion != null && !expectedVersion.equals(before.getVersion())) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Intervention was modified");
+            }
+
+            InterventionResponseDTO after = new InterventionResponseDTO(
+                    before.getId(), before.getDescription(), before.getPriority(), status,
+                    before.getCreatedAt(), before.getMachineId(), before.getMachineName(),
+                    before.getTechnicianId(), before.getTechnicianName(), before.getVersion() + 1);
+            Boolean updated = transactionTemplate.execute(tx -> {
+                if (interventionRepository.updateStatus(id, before.getVersion(), status, LocalDateTime.now()) != 1) {
+                    return false;
+                }
+                publish(ChangeType.UPDATED, before, after);
+                return true;
+            });
+
+            if (Boolean.TRUE.equals(updated)) {
+                return after;
+            }
+
+            if (expectedVersion != null) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Intervention was modified");
+            }
         }
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Intervention is being modified concurrently");
+    }
 
-        if (dto.getTechnicianId() != null) {
-            intervention.setTechnician(
-                    userRepository.findById(dto.getTechnicianId())
-                            .orElseThrow(() -> new RuntimeException("Technician not found"))
-            );
+    // Read-modify-write, one transaction per attempt; the entity stays
+    // managed, so there is no merge select and @Version guards the UPDATE.
+    // When another writer got in first, the change is re-applied to the
+    // fresh row, unless that writer changed one of the fields this change
+    // depends on (touchedFields) -> 409, or the client pinned a version
+    // with If-Match -> 412.
+    private InterventionResponseDTO updateWithRetry(
+            Long id,
+            Long expectedVersion,
+            Function<InterventionResponseDTO, List<Object>> touchedFields,
+            Consumer<Intervention> change
+    ) {
+        AtomicReference<List<Object>> firstSeen = new AtomicReference<>();
+
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            try {
+                UpdateResult result = transactionTemplate.execute(tx -> {
+                    Intervention intervention = getEntityById(id);
+                    if (expectedVersion != null && !expectedVersion.equals(intervention.getVersion())) {
+                        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Intervention was modified");
+                    }
+
+                    InterventionResponseDTO before = toDTO(intervention);
+                    List<Object> seen = touchedFields.apply(before);
+                    if (!firstSeen.compareAndSet(null, seen) && !firstSeen.get().equals(seen)) {
+                        throw new ResponseStatusException(HttpStatus.CONFLICT, "Intervention was modified concurrently");
+                    }
+
+                    change.accept(intervention);
+                    interventionRepository.flush();
+                    UpdateResult updated = new UpdateResult(before, toDTO(intervention));
+                    publish(ChangeType.UPDATED, updated.before(), updated.after());
+                    return updated;
+                });
+
+                return result.after();
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersion != null) {
+                    throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Intervention was modified");
+                }
+            }
         }
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Intervention is being modified concurrently");
+    }
 
-        return toDTO(interventionRepository.save(intervention));
+    // If-Match against the current ETag (see getVersion); returns the
+    // intervention version it pins, or null when there is no If-Match
+    private Long checkIfMatch(Long id, User user, String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        VersionDTO current = getVersion(id, user)
+                .orElseThrow(() -> new RuntimeException("Intervention not found"));
+        if (!current.matches(ifMatch)) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Intervention was modified");
+        }
+        return current.getVersion();
     }
 
-    // Delete intervention
+    // Delete intervention; the DELETE is guarded by the version the event reports
     public void delete(Long id) {
-        interventionRepository.deleteById(id);
+        transactionTemplate.executeWithoutResult(tx ->
+                interventionRepository.findByIdFull(id).ifPresent(intervention -> {
+                    InterventionResponseDTO before = toDTO(intervention);
+                    interventionRepository.delete(intervention);
+                    interventionRepository.flush();
+                    publish(ChangeType.DELETED, before, null);
+                }));
     }
 
     // Get all interventions (Admin)
+    @Transactional(readOnly = true)
     public List<InterventionResponseDTO> getAll() {
-        return interventionRepository.findAll()
-                .stream()
-                .map(this::toDTO)
-                .toList();
+        return interventionRepository.findAllDTO();
+    }
+
+    // Get one keyset page of interventions, newest first (Admin)
+    @Transactional(readOnly = true)
+    public InterventionPageDTO getPage(InterventionFilterDTO filter, String cursor, Integer size) {
+        return page(cursor, size, (afterCreatedAt, afterId, limit) ->
+                interventionRepository.findPage(filter, afterCreatedAt, afterId, limit));
+    }
+
+    // Same as getPage over archived interventions (Admin)
+    @Transactional(readOnly = true)
+    public InterventionPageDTO getArchivePage(InterventionFilterDTO filter, String cursor, Integer size) {
+        return page(cursor, size, (afterCreatedAt, afterId, limit) ->
+                interventionArchiveRepository.findPage(filter, afterCreatedAt, afterId, limit));
+    }
+
+    private InterventionPageDTO page(String cursor, Integer size, PageQuery query) {
+        int limit = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            afterCreatedAt = LocalDateTime.parse(parts[0]);
+            afterId = Long.valueOf(parts[1]);
+        }
+
+        // Fetch one extra row to know whether a next page exists
+        List<InterventionResponseDTO> rows = query.fetch(afterCreatedAt, afterId, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<InterventionResponseDTO> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            InterventionResponseDTO last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return new InterventionPageDTO(page, nextCursor);
+    }
+
+    private interface PageQuery {
+        List<InterventionResponseDTO> fetch(LocalDateTime afterCreatedAt, Long afterId, int limit);
     }
 
     // Get intervention by ID
+    @Transactional(readOnly = true)
     public Optional<InterventionResponseDTO> getById(Long id) {
-        return interventionRepository.findById(id).map(this::toDTO);
+        return interventionRepository.findDTOById(id);
+    }
+
+    // Fingerprint for conditional GET of one intervention; technicians
+    // only get one for their own interventions
+    @Transactional(readOnly = true)
+    public Optional<VersionDTO> getVersion(Long id, User user) {
+        Long technicianId = user.getRole() == Role.TECHNICIAN ? user.getId() : null;
+        return interventionRepository.findVersionById(id, technicianId);
     }
 
     // Get interventions for a specific technician
+    @Transactional(readOnly = true)
     public List<InterventionResponseDTO> getByTechnician(Long technicianId) {
-        return interventionRepository.findByTechnicianId(technicianId)
-                .stream()
-                .map(this::toDTO)
-                .toList();
+        return interventionRepository.findDTOByTechnicianId(technicianId);
+    }
+
+    // Same list with versions, for offline sync (SyncService);
+    // with since, only the interventions changed after it
+    @Transactional(readOnly = true)
+    public List<SyncInterventionDTO> getByTechnicianSince(Long technicianId, LocalDateTime since) {
+        return since == null
+                ? interventionRepository.findSyncDTOByTechnicianId(technicianId)
+                : interventionRepository.findSyncDTOByTechnicianIdChangedAfter(technicianId, since);
     }
 
     // Helper to get the entity itself (for controller security checks)
     public Intervention getEntityById(Long id) {
-        return interventionRepository.findById(id)
+        return interventionRepository.findByIdFull(id)
                 .orElseThrow(() -> new RuntimeException("Intervention not found"));
     }
 
-    // Convert entity to DTO
-    private InterventionResponseDTO toDTO(Intervention i) {
+    private Optional<Reservation> reserveTechnician(InterventionRequestDTO dto, boolean required) {
+        if (dto.getTechnicianId() != null || !dto.isAutoAssign()) {
+            return Optional.empty();
+        }
+        Optional<Reservation> reservation = workloadService.reserve(dto.getPriority());
+        if (reservation.isEmpty() && required) {
+            throw new RuntimeException("No technician available");
+        }
+        return reservation;
+    }
+
+    private static void markAssigned(Intervention intervention) {
+        if (intervention.getStatus() == null || intervention.getStatus() == Status.CREATED) {
+            intervention.setStatus(Status.ASSIGNED);
+        }
+    }
+
+    // Listeners (SSE feed, ...) run after commit. Always called inside the
+    // writing transaction, never after it committed (see ChangeFence).
+    private void publish(ChangeType type, InterventionResponseDTO before, InterventionResponseDTO after) {
+        eventPublisher.publishEvent(new InterventionChangedEvent(type, before, after));
+    }
+
+    // Cursor = base64url("<createdAt>|<id>") of the last row returned
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    // Convert entity to DTO (package-private for the mapping benchmark)
+    static InterventionResponseDTO toDTO(Intervention i) {
         return new InterventionResponseDTO(
                 i.getId(),
                 i.getDescription(),
@@ -138,7 +525,11 @@ public class InterventionService {
                 i.getMachine() != null ? i.getMachine().getId() : null,
                 i.getMachine() != null ? i.getMachine().getName() : null,
                 i.getTechnician() != null ? i.getTechnician().getId() : null,
-                i.getTechnician() != null ? i.getTechnician().getName() : null
+                i.getTechnician() != null ? i.getTechnician().getName() : null,
+                i.getVersion()
         );
     }
+
+    private record UpdateResult(InterventionResponseDTO before, InterventionResponseDTO after) {
+    }
 }
@@ -1,23 +1,35 @@
 package maintenance_backend.example.demo.service;
 
+import io.micrometer.core.annotation.Timed;
+import maintenance_backend.example.demo.config.ReferenceDataCache;
 import maintenance_backend.example.demo.dto.MachineRequestDTO;
 import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.VersionDTO;
 import maintenance_backend.example.demo.entity.Machine;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.MachineChangedEvent;
 import maintenance_backend.example.demo.repository.ClientRepository;
 import maintenance_backend.example.demo.repository.MachineRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
 public class MachineService {
 
     private final MachineRepository machineRepository;
     private final ClientRepository clientRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
+    @Transactional
     public MachineResponseDTO create(MachineRequestDTO dto) {
         Machine machine = new Machine();
         machine.setName(dto.getName());
@@ -25,16 +37,21 @@ public class MachineService {
         machine.setStatus(dto.getStatus());
         if (dto.getClientId() != null) {
             machine.setClient(
-                    clientRepository.findById(dto.getClientId())
+                    clientRepository.findActiveById(dto.getClientId())
                             .orElseThrow(() -> new RuntimeException("Client not found"))
             );
         }
-        return toDTO(machineRepository.save(machine));
+
+        MachineResponseDTO created = toDTO(machineRepository.save(machine));
+        eventPublisher.publishEvent(new MachineChangedEvent(ChangeType.CREATED, null, created));
+        return created;
     }
 
+    @Transactional
     public MachineResponseDTO update(Long id, MachineRequestDTO dto) {
-        Machine machine = machineRepository.findById(id)
+        Machine machine = machineRepository.findByIdWithClient(id)
                 .orElseThrow(() -> new RuntimeException("Machine not found"));
+        MachineResponseDTO before = toDTO(machine);
 
         machine.setName(dto.getName());
         machine.setSerialNumber(dto.getSerialNumber());
@@ -43,29 +60,47 @@ public class MachineService {
         // Update client if provided
         if (dto.getClientId() != null) {
             machine.setClient(
-                    clientRepository.findById(dto.getClientId())
+                    clientRepository.findActiveById(dto.getClientId())
                             .orElseThrow(() -> new RuntimeException("Client not found"))
             );
         } else {
             machine.setClient(null); // optional: remove client if dto.clientId is null
         }
 
-        return toDTO(machineRepository.save(machine));
+        MachineResponseDTO after = toDTO(machineRepository.save(machine));
+        eventPublisher.publishEvent(new MachineChangedEvent(ChangeType.UPDATED, before, after));
+        return after;
     }
 
+    @Transactional(readOnly = true)
     public List<MachineResponseDTO> getAll() {
-        return machineRepository.findAll()
-                .stream()
-                .map(this::toDTO)
-                .toList();
+        return machineRepository.findAllDTO();
     }
 
+    @Transactional(readOnly = true)
     public Optional<MachineResponseDTO> getById(Long id) {
-        return machineRepository.findById(id).map(this::toDTO);
+        return machineRepository.findDTOById(id);
+    }
+
+    // Fingerprints for conditional GETs
+    @Transactional(readOnly = true)
+    public VersionDTO getAllVersion() {
+        return machineRepository.findTableVersion().and(clientRepository.findTableVersion());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<VersionDTO> getVersion(Long id) {
+        return machineRepository.findVersionById(id);
     }
 
+    // Soft delete; SoftDeletePurger removes the interventions later
+    @Transactional
     public void delete(Long id) {
-        machineRepository.deleteById(id);
+        machineRepository.findDTOById(id).ifPresent(before -> {
+            machineRepository.softDeleteById(id, LocalDateTime.now());
+            referenceDataCache.evict(Machine.class, id);
+            eventPublisher.publishEvent(new MachineChangedEvent(ChangeType.DELETED, before, null));
+        });
     }
 
     private MachineResponseDTO toDTO(Machine m) {
@@ -0,0 +1,46 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+// Turns due maintenance plans into CREATED interventions (which then show
+// up in the dispatch queue, or go straight to a technician with autoAssign).
+// Every instance may run it: batches are serialised by a PostgreSQL
+// advisory lock (MaintenancePlanService.generateDue), and an instance that
+// finds the lock taken leaves the work to the holder until its next tick.
+// PostgreSQL-only; disable with maintenance.scheduler.enabled=false.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "maintenance.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class MaintenancePlanScheduler {
+
+    private final MaintenancePlanService maintenancePlanService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${maintenance.scheduler.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${maintenance.scheduler.delay-ms:60000}")
+    public void generate() {
+        LocalDateTime now = LocalDateTime.now();
+        long generated = 0;
+        int batch;
+        do {
+            batch = maintenancePlanService.generateDue(now, batchSize);
+            generated += Math.max(batch, 0);
+        } while (batch == batchSize);
+
+        if (generated > 0) {
+            meterRegistry.counter("maintenance.plans.generated").increment(generated);
+            log.info("Generated {} preventive maintenance interventions", generated);
+        }
+    }
+}
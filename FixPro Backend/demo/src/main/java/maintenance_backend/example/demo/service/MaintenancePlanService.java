@@ -0,0 +1,166 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.InterventionRequestDTO;
+import maintenance_backend.example.demo.dto.MaintenancePlanRequestDTO;
+import maintenance_backend.example.demo.dto.MaintenancePlanResponseDTO;
+import maintenance_backend.example.demo.entity.MaintenancePlan;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.repository.MachineRepository;
+import maintenance_backend.example.demo.repository.MaintenancePlanRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
+public class MaintenancePlanService {
+
+    static final String GENERATION_LOCK = "maintenance-plan-generation";
+
+    private static final String DEFAULT_DESCRIPTION = "Preventive maintenance";
+
+    private final MaintenancePlanRepository maintenancePlanRepository;
+    private final MachineRepository machineRepository;
+    private final InterventionService interventionService;
+
+    @Transactional
+    public MaintenancePlanResponseDTO create(MaintenancePlanRequestDTO dto) {
+        MaintenancePlan plan = new MaintenancePlan();
+        apply(plan, dto);
+        plan.setNextDueAt(dto.getFirstDueAt() != null
+                ? dto.getFirstDueAt()
+                : nextDueAfter(plan, LocalDateTime.now(), LocalDateTime.now()));
+        return toDTO(maintenancePlanRepository.save(plan));
+    }
+
+    @Transactional
+    public MaintenancePlanResponseDTO update(Long id, MaintenancePlanRequestDTO dto) {
+        MaintenancePlan plan = maintenancePlanRepository.findByIdWithMachine(id)
+                .orElseThrow(() -> new RuntimeException("Maintenance plan not found"));
+        Integer intervalDays = plan.getIntervalDays();
+        String cron = plan.getCron();
+
+        apply(plan, dto);
+
+        // Keep the current due date unless the schedule itself changed
+        if (dto.getFirstDueAt() != null) {
+            plan.setNextDueAt(dto.getFirstDueAt());
+        } else if (!Objects.equals(intervalDays, plan.getIntervalDays()) || !Objects.equals(cron, plan.getCron())) {
+            plan.setNextDueAt(nextDueAfter(plan, LocalDateTime.now(), LocalDateTime.now()));
+        }
+        return toDTO(plan);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MaintenancePlanResponseDTO> getAll(Long machineId) {
+        return machineId != null
+                ? maintenancePlanRepository.findAllDTOByMachineId(machineId)
+                : maintenancePlanRepository.findAllDTO();
+    }
+
+    public void delete(Long id) {
+        maintenancePlanRepository.deleteById(id);
+    }
+
+    // Creates the interventions of up to limit due plans with one batched
+    // createAll, and moves each plan to its next occurrence, all in one
+    // transaction. The advisory lock makes instances take turns; returns the
+    // number of plans handled, or -1 when another instance holds the lock.
+    @Transactional
+    public int generateDue(LocalDateTime now, int limit) {
+        if (!maintenancePlanRepository.tryAdvisoryXactLock(GENERATION_LOCK)) {
+            return -1;
+        }
+
+        List<MaintenancePlan> due = maintenancePlanRepository.findDue(now, Limit.of(limit));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<InterventionRequestDTO> dtos = new ArrayList<>(due.size());
+        for (MaintenancePlan plan : due) {
+            InterventionRequestDTO dto = new InterventionRequestDTO();
+            dto.setDescription(plan.getDescription());
+            dto.setPriority(plan.getPriority());
+            dto.setStatus(Status.CREATED);
+            dto.setMachineId(plan.getMachine().getId());
+            dto.setAutoAssign(plan.isAutoAssign());
+            dtos.add(dto);
+
+            plan.setLastGeneratedAt(now);
+            plan.setNextDueAt(nextDueAfter(plan, plan.getNextDueAt(), now));
+        }
+        // autoAssign plans stay unassigned (CREATED, in the dispatch queue)
+        // when no technician is available
+        interventionService.createAll(dtos, false);
+        return due.size();
+    }
+
+    // First occurrence strictly after now, counted from due. Occurrences
+    // missed while no scheduler ran collapse into the one generated now.
+    static LocalDateTime nextDueAfter(MaintenancePlan plan, LocalDateTime due, LocalDateTime now) {
+        if (plan.getIntervalDays() != null) {
+            long periods = ChronoUnit.DAYS.between(due, now) / plan.getIntervalDays() + 1;
+            return due.plusDays(periods * plan.getIntervalDays());
+        }
+        return CronExpression.parse(plan.getCron()).next(now);
+    }
+
+    private void apply(MaintenancePlan plan, MaintenancePlanRequestDTO dto) {
+        if (dto.getMachineId() == null) {
+            throw new RuntimeException("Machine is required");
+        }
+        if (plan.getMachine() == null || !plan.getMachine().getId().equals(dto.getMachineId())) {
+            plan.setMachine(machineRepository.findActiveById(dto.getMachineId())
+                    .orElseThrow(() -> new RuntimeException("Machine not found")));
+        }
+
+        boolean interval = dto.getIntervalDays() != null;
+        boolean calendar = dto.getCron() != null && !dto.getCron().isBlank();
+        if (interval == calendar) {
+            throw new RuntimeException("Set either intervalDays or cron");
+        }
+        if (interval && dto.getIntervalDays() <= 0) {
+            throw new RuntimeException("intervalDays must be positive");
+        }
+        if (calendar && !CronExpression.isValidExpression(dto.getCron())) {
+            throw new RuntimeException("Invalid cron expression");
+        }
+
+        plan.setDescription(dto.getDescription() != null && !dto.getDescription().isBlank()
+                ? dto.getDescription()
+                : DEFAULT_DESCRIPTION);
+        plan.setPriority(dto.getPriority() != null ? dto.getPriority() : Priority.MEDIUM);
+        plan.setIntervalDays(interval ? dto.getIntervalDays() : null);
+        plan.setCron(calendar ? dto.getCron().trim() : null);
+        plan.setAutoAssign(dto.isAutoAssign());
+        plan.setActive(dto.getActive() == null || dto.getActive());
+    }
+
+    private MaintenancePlanResponseDTO toDTO(MaintenancePlan p) {
+        return new MaintenancePlanResponseDTO(
+                p.getId(),
+                p.getMachine().getId(),
+                p.getMachine().getName(),
+                p.getDescription(),
+                p.getPriority(),
+                p.getIntervalDays(),
+                p.getCron(),
+                p.isAutoAssign(),
+                p.isActive(),
+                p.getNextDueAt(),
+                p.getLastGeneratedAt()
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.SearchPageDTO;
+import maintenance_backend.example.demo.repository.SearchRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
+public class SearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Ranked search is for finding things, not for paging through everything
+    private static final int MAX_OFFSET = 1000;
+    private static final int MAX_TERM_LENGTH = 100;
+    // Trigram indexes only help '%term%' from 3 characters on;
+    // shorter terms are matched as prefixes
+    private static final int MIN_CONTAINS_LENGTH = 3;
+
+    private final SearchRepository searchRepository;
+
+    public SearchPageDTO<MachineResponseDTO> searchMachines(String q, Integer page, Integer size) {
+        String term = normalize(q);
+        if (term.isEmpty()) {
+            return empty(page, size);
+        }
+        return page(page, size, (limit, offset) ->
+                searchRepository.searchMachines(term, pattern(term), escapeLike(term) + "%", limit, offset));
+    }
+
+    public SearchPageDTO<ClientResponseDTO> searchClients(String q, Integer page, Integer size) {
+        String term = normalize(q);
+        if (term.isEmpty()) {
+            return empty(page, size);
+        }
+        return page(page, size, (limit, offset) ->
+                searchRepository.searchClients(term, pattern(term), limit, offset));
+    }
+
+    public SearchPageDTO<InterventionResponseDTO> searchInterventions(String q, Integer page, Integer size) {
+        String term = normalize(q);
+        String tsQuery = toTsQuery(term);
+        if (tsQuery.isEmpty()) {
+            return empty(page, size);
+        }
+        return page(page, size, (limit, offset) ->
+                searchRepository.searchInterventions(tsQuery, pattern(term), limit, offset));
+    }
+
+    private <T> SearchPageDTO<T> page(Integer page, Integer size, PageQuery<T> query) {
+        int pageSize = pageSize(size);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        // In long: a huge page number must not wrap around to a valid offset
+        long offset = (long) pageNumber * pageSize;
+        if (offset > MAX_OFFSET) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Search results are limited to the first " + MAX_OFFSET + " matches");
+        }
+
+        // One extra row tells whether there is a next page
+        List<T> rows = query.fetch(pageSize + 1, (int) offset);
+        boolean hasMore = rows.size() > pageSize;
+        return new SearchPageDTO<>(hasMore ? rows.subList(0, pageSize) : rows, pageNumber, pageSize, hasMore);
+    }
+
+    private <T> SearchPageDTO<T> empty(Integer page, Integer size) {
+        return new SearchPageDTO<>(List.of(), page == null || page < 0 ? 0 : page, pageSize(size), false);
+    }
+
+    private int pageSize(Integer size) {
+        return size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private String normalize(String q) {
+        if (q == null) {
+            return "";
+        }
+        String term = q.strip().replaceAll("\\s+", " ");
+        return term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term;
+    }
+
+    private String pattern(String term) {
+        String escaped = escapeLike(term);
+        return term.length() < MIN_CONTAINS_LENGTH ? escaped + "%" : "%" + escaped + "%";
+    }
+
+    private String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // "Pump valv" -> "pump & valv:*": every word must match, the last one
+    // as a prefix since the user is still typing it. Only letters and digits
+    // reach to_tsquery, so its operators cannot be injected.
+    private String toTsQuery(String term) {
+        List<String> words = Arrays.stream(term.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(w -> !w.isEmpty())
+                .toList();
+        if (words.isEmpty()) {
+            return "";
+        }
+        return words.stream().collect(Collectors.joining(" & ")) + ":*";
+    }
+
+    @FunctionalInterface
+    private interface PageQuery<T> {
+        List<T> fetch(int limit, int offset);
+    }
+}
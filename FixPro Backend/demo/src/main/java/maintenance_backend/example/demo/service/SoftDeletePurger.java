@@ -0,0 +1,93 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maintenance_backend.example.demo.config.ReferenceDataCache;
+import maintenance_backend.example.demo.entity.Client;
+import maintenance_backend.example.demo.entity.Machine;
+import maintenance_backend.example.demo.repository.SoftDeletePurgeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+// Removes soft-deleted machines and clients (ClientService.deleteClient,
+// MachineService.delete) with set-based DELETEs of at most batch-size rows,
+// one short transaction per batch, children first:
+// interventions and their attachments, then machines, then clients.
+// Statistics and workloads are reloaded afterwards, the removed
+// interventions published no events. Safe to run on every instance
+// (SKIP LOCKED); PostgreSQL-only, disable with purge.enabled=false.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "purge.enabled", havingValue = "true", matchIfMissing = true)
+@Timed(value = "fixpro.service", histogram = true)
+public class SoftDeletePurger {
+
+    private final SoftDeletePurgeRepository softDeletePurgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AttachmentService attachmentService;
+    private final StatisticsService statisticsService;
+    private final WorkloadService workloadService;
+    private final ReferenceDataCache referenceDataCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${purge.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${purge.delay-ms:60000}")
+    public void purge() {
+        List<String> contentHashes = new ArrayList<>();
+        long interventions = 0;
+        int batch;
+        do {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> removed = softDeletePurgeRepository.deleteInterventionsOfDeletedMachines(batchSize);
+                contentHashes.addAll(softDeletePurgeRepository.deleteAttachments(removed));
+                return removed;
+            });
+            batch = ids.size();
+            interventions += batch;
+        } while (batch == batchSize);
+
+        // Files only once their rows are committed away
+        attachmentService.deleteFilesIfUnused(contentHashes);
+
+        long machines = inBatches(() -> softDeletePurgeRepository.deleteMachines(batchSize));
+        long clients = inBatches(() -> softDeletePurgeRepository.deleteClients(batchSize));
+
+        if (interventions > 0) {
+            statisticsService.rebuild();
+            workloadService.rebuild();
+        }
+        if (machines > 0 || clients > 0) {
+            // Removed outside JPA
+            referenceDataCache.evict(Machine.class);
+            referenceDataCache.evict(Client.class);
+        }
+        if (interventions > 0 || machines > 0 || clients > 0) {
+            meterRegistry.counter("purge.rows", "table", "client").increment(clients);
+            meterRegistry.counter("purge.rows", "table", "machine").increment(machines);
+            meterRegistry.counter("purge.rows", "table", "intervention").increment(interventions);
+            log.info("Purged {} clients, {} machines, {} interventions", clients, machines, interventions);
+        }
+    }
+
+    private long inBatches(IntSupplier delete) {
+        long total = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> delete.getAsInt());
+            total += batch;
+        } while (batch == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,390 @@
+package maintenance_backend.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.dto.CountDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.MachineResponseDTO;
+import maintenance_backend.example.demo.dto.StatisticsDTO;
+import maintenance_backend.example.demo.dto.WindowCountDTO;
+import maintenance_backend.example.demo.entity.MachineStatus;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.ClientChangedEvent;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.event.MachineChangedEvent;
+import maintenance_backend.example.demo.repository.ClientRepository;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.MachineRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Dashboard counters kept in memory and updated from the write-path events,
+// so reading them never scans the intervention table. Loaded from GROUP BY
+// queries on startup, and reloaded after bulk jobs (archiving, purging)
+// that change many rows without per-row events.
+//
+// A reload does not block the listeners. The GROUP BY queries read one
+// REPEATABLE READ snapshot; the events received meanwhile are buffered
+// and, once ChangeFence says every commit before the snapshot has been
+// delivered, the buffered changes the snapshot does not contain yet are
+// replayed onto the fresh aggregates (by row version for interventions,
+// from the snapshot's state of the row for machines). Events arriving
+// after that point are all newer than the snapshot and are replayed as
+// they are.
+@Service
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    private static final int DAILY_RETENTION_DAYS = 90;
+    private static final int[] WINDOW_DAYS = {1, 7, 30};
+
+    private final InterventionRepository interventionRepository;
+    private final MachineRepository machineRepository;
+    private final ClientRepository clientRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ChangeFence changeFence;
+
+    // Incremental updates share the read lock (the counters are thread-safe);
+    // the swap at the end of a reload takes the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Aggregates aggregates = new Aggregates();
+
+    // While a reload runs (guarded by lock), null otherwise: events that may
+    // predate its snapshot, then those known to be newer
+    private Touched touched;
+    private Queue<Consumer<Aggregates>> newer;
+
+    public StatisticsDTO getStatistics() {
+        Aggregates a = aggregates;
+
+        LocalDate today = LocalDate.now();
+        List<WindowCountDTO> windows = new ArrayList<>(WINDOW_DAYS.length);
+        for (int days : WINDOW_DAYS) {
+            long open = 0;
+            long closed = 0;
+            for (int d = 0; d < days; d++) {
+                LocalDate day = today.minusDays(d);
+                open += sum(a.openByDay, day);
+                closed += sum(a.closedByDay, day);
+            }
+            windows.add(new WindowCountDTO(days, open, closed));
+        }
+
+        return new StatisticsDTO(
+                counts(a.byStatus, Status.class),
+                counts(a.byPriority, Priority.class),
+                counts(a.machinesByStatus, MachineStatus.class),
+                counts(a.byTechnician, a.technicianNames),
+                counts(a.byClient, a.clientNames),
+                counts(a.machinesByClient, a.clientNames),
+                windows
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Touched t = new Touched();
+            Queue<Consumer<Aggregates>> later = new ConcurrentLinkedQueue<>();
+            writeLocked(() -> touched = t);
+
+            TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+            snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            snapshot.setReadOnly(true);
+            try {
+                snapshot.executeWithoutResult(status -> {
+                    Aggregates fresh = load();
+
+                    // From here on t is complete: whatever it misses
+                    // committed after the snapshot
+                    changeFence.awaitEarlier();
+                    writeLocked(() -> {
+                        touched = null;
+                        newer = later;
+                    });
+
+                    Map<Long, Long> versions = t.interventions.snapshotVersions(interventionRepository);
+                    SnapshotMachines machines = readMachines(t.machines.keySet());
+
+                    writeLocked(() -> {
+                        // Machines first: interventions count for their
+                        // machine's latest client
+                        t.machines.forEach((id, latest) -> moveMachine(fresh, machines.machines.get(id),
+                                latest.orElse(null), machines.interventions.getOrDefault(id, 0L)));
+                        t.interventions.replay(versions, event -> {
+                            apply(fresh, event.getBefore(), -1);
+                            apply(fresh, event.getAfter(), 1);
+                        });
+                        t.clients.forEach(event -> applyClient(fresh, event));
+                        later.forEach(change -> change.accept(fresh));
+
+                        newer = null;
+                        aggregates = fresh;
+                    });
+                });
+            } finally {
+                writeLocked(() -> {
+                    touched = null;
+                    newer = null;
+                });
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Snapshot state of the machines touched during a reload
+    private SnapshotMachines readMachines(Set<Long> ids) {
+        SnapshotMachines result = new SnapshotMachines();
+        if (!ids.isEmpty()) {
+            machineRepository.findDTOByIdIn(ids).forEach(m -> result.machines.put(m.getId(), m));
+            for (Object[] row : interventionRepository.countByMachineIds(ids)) {
+                result.interventions.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return result;
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterventionChanged(InterventionChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            Aggregates a = aggregates;
+            apply(a, event.getBefore(), -1);
+            apply(a, event.getAfter(), 1);
+            if (touched != null) {
+                touched.interventions.add(event);
+            } else if (newer != null) {
+                newer.add(fresh -> {
+                    apply(fresh, event.getBefore(), -1);
+                    apply(fresh, event.getAfter(), 1);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A machine moving to another client (or deleted) takes its
+    // interventions' per-client counts along
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMachineChanged(MachineChangedEvent event) {
+        MachineResponseDTO before = event.getBefore();
+        MachineResponseDTO after = event.getAfter();
+        long interventions = before != null
+                && (after == null || !Objects.equals(before.getClientId(), after.getClientId()))
+                ? interventionRepository.countByMachineId(before.getId())
+                : 0;
+
+        lock.readLock().lock();
+        try {
+            moveMachine(aggregates, before, after, interventions);
+            if (touched != null) {
+                touched.machines.put(event.current().getId(), Optional.ofNullable(after));
+            } else if (newer != null) {
+                newer.add(fresh -> moveMachine(fresh, before, after, interventions));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            applyClient(aggregates, event);
+            if (touched != null) {
+                touched.clients.add(event);
+            } else if (newer != null) {
+                newer.add(fresh -> applyClient(fresh, event));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Its machines got their own DELETED events
+    private static void applyClient(Aggregates a, ClientChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            a.clientNames.remove(event.getBefore().getId());
+        } else if (event.getAfter().getCompanyName() != null) {
+            a.clientNames.put(event.getAfter().getId(), event.getAfter().getCompanyName());
+        }
+    }
+
+    private static void moveMachine(Aggregates a, MachineResponseDTO from, MachineResponseDTO to, long interventions) {
+        if (from != null) {
+            add(a.machinesByStatus, from.getStatus(), -1);
+            add(a.machinesByClient, from.getClientId(), -1);
+            add(a.byClient, from.getClientId(), -interventions);
+            a.machineClient.remove(from.getId());
+        }
+        if (to != null) {
+            add(a.machinesByStatus, to.getStatus(), 1);
+            add(a.machinesByClient, to.getClientId(), 1);
+            add(a.byClient, to.getClientId(), interventions);
+            if (to.getClientId() != null) {
+                a.machineClient.put(to.getId(), to.getClientId());
+            }
+        }
+    }
+
+    private void apply(Aggregates a, InterventionResponseDTO i, long delta) {
+        if (i == null) {
+            return;
+        }
+
+        add(a.byStatus, i.getStatus(), delta);
+        add(a.byPriority, i.getPriority(), delta);
+
+        if (i.getTechnicianId() != null) {
+            add(a.byTechnician, i.getTechnicianId(), delta);
+            if (i.getTechnicianName() != null) {
+                a.technicianNames.put(i.getTechnicianId(), i.getTechnicianName());
+            }
+        }
+
+        if (i.getMachineId() != null) {
+            add(a.byClient, a.machineClient.get(i.getMachineId()), delta);
+        }
+
+        if (i.getCreatedAt() != null && i.getStatus() != null) {
+            add(i.getStatus().isClosed() ? a.closedByDay : a.openByDay, i.getCreatedAt().toLocalDate(), delta);
+        }
+    }
+
+    private Aggregates load() {
+        Aggregates a = new Aggregates();
+
+        for (Object[] row : machineRepository.findMachineClientIds()) {
+            a.machineClient.put((Long) row[0], (Long) row[1]);
+            add(a.machinesByClient, (Long) row[1], 1);
+        }
+        for (Object[] row : machineRepository.countByStatus()) {
+            add(a.machinesByStatus, (MachineStatus) row[0], (Long) row[1]);
+        }
+        clientRepository.findAllDTO().forEach(c -> {
+            if (c.getCompanyName() != null) {
+                a.clientNames.put(c.getId(), c.getCompanyName());
+            }
+        });
+
+        for (Object[] row : interventionRepository.countByStatus()) {
+            add(a.byStatus, (Status) row[0], (Long) row[1]);
+        }
+        for (Object[] row : interventionRepository.countByPriority()) {
+            add(a.byPriority, (Priority) row[0], (Long) row[1]);
+        }
+        for (Object[] row : interventionRepository.countByTechnician()) {
+            add(a.byTechnician, (Long) row[0], (Long) row[2]);
+            if (row[1] != null) {
+                a.technicianNames.put((Long) row[0], (String) row[1]);
+            }
+        }
+        for (Object[] row : interventionRepository.countByClient()) {
+            add(a.byClient, (Long) row[0], (Long) row[1]);
+        }
+
+        LocalDate since = LocalDate.now().minusDays(DAILY_RETENTION_DAYS);
+        for (Object[] row : interventionRepository.countByDayAndStatus(since.atStartOfDay())) {
+            Status status = (Status) row[1];
+            if (status != null) {
+                add(status.isClosed() ? a.closedByDay : a.openByDay, (LocalDate) row[0], (Long) row[2]);
+            }
+        }
+
+        return a;
+    }
+
+    private static <K> void add(Map<K, LongAdder> map, K key, long delta) {
+        if (key != null) {
+            map.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static <K> long sum(Map<K, LongAdder> map, K key) {
+        LongAdder adder = map.get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> counts(Map<E, LongAdder> map, Class<E> type) {
+        Map<E, Long> result = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            result.put(value, sum(map, value));
+        }
+        return result;
+    }
+
+    private static List<CountDTO> counts(Map<Long, LongAdder> map, Map<Long, String> names) {
+        return map.entrySet().stream()
+                .filter(e -> e.getValue().sum() != 0)
+                .map(e -> new CountDTO(e.getKey(), names.get(e.getKey()), e.getValue().sum()))
+                .sorted(Comparator.comparingLong(CountDTO::getCount).reversed())
+                .toList();
+    }
+
+    private static class Aggregates {
+        final Map<Status, LongAdder> byStatus = new ConcurrentHashMap<>();
+        final Map<Priority, LongAdder> byPriority = new ConcurrentHashMap<>();
+        final Map<MachineStatus, LongAdder> machinesByStatus = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> byTechnician = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> byClient = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> machinesByClient = new ConcurrentHashMap<>();
+        final Map<LocalDate, LongAdder> openByDay = new ConcurrentHashMap<>();
+        final Map<LocalDate, LongAdder> closedByDay = new ConcurrentHashMap<>();
+
+        final Map<Long, Long> machineClient = new ConcurrentHashMap<>();
+        final Map<Long, String> technicianNames = new ConcurrentHashMap<>();
+        final Map<Long, String> clientNames = new ConcurrentHashMap<>();
+    }
+
+    // Events received while a reload reads its snapshot; latest state per
+    // machine as left by the events (empty: deleted)
+    private static class Touched {
+        final InterventionChangeBuffer interventions = new InterventionChangeBuffer();
+        final Map<Long, Optional<MachineResponseDTO>> machines = new ConcurrentHashMap<>();
+        final Queue<ClientChangedEvent> clients = new ConcurrentLinkedQueue<>();
+    }
+
+    // Touched machines as the snapshot saw them (absent: not there yet, or deleted)
+    private static class SnapshotMachines {
+        final Map<Long, MachineResponseDTO> machines = new HashMap<>();
+        final Map<Long, Long> interventions = new HashMap<>();
+    }
+}
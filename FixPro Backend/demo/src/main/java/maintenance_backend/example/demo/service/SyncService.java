@@ -0,0 +1,199 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.SyncInterventionDTO;
+import maintenance_backend.example.demo.dto.SyncResponseDTO;
+import maintenance_backend.example.demo.dto.SyncResultDTO;
+import maintenance_backend.example.demo.dto.SyncResultDTO.Outcome;
+import maintenance_backend.example.demo.dto.SyncUpdateDTO;
+import maintenance_backend.example.demo.entity.Intervention;
+import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.repository.ClientRepository;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.MachineRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Delta sync for offline technician clients.
+// Download: everything on the first sync, then only what was created,
+// changed or taken away since the token's watermark. The watermark trails
+// the sync time by sync.grace, so rows written by transactions still open
+// at sync time are sent (again) next time; clients upsert by id and version.
+// Upload: queued PATCH-style changes applied in one transaction, with one
+// outcome per change instead of failing the whole batch.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
+public class SyncService {
+
+    private static final int MAX_UPLOAD_SIZE = 500;
+
+    private final InterventionService interventionService;
+    private final InterventionRepository interventionRepository;
+    private final MachineRepository machineRepository;
+    private final ClientRepository clientRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${sync.grace:60s}")
+    private Duration grace;
+
+    @Value("${sync.token-ttl:30d}")
+    private Duration tokenTtl;
+
+    // Removals only matter to tokens younger than token-ttl; runs whether or
+    // not archiving is enabled, sync.purge-cron=- turns it off
+    @Scheduled(cron = "${sync.purge-cron:0 45 2 * * *}")
+    @Transactional
+    public void purgeRemovals() {
+        int purged = interventionRepository.deleteSyncRemovalsBefore(LocalDateTime.now().minus(tokenTtl));
+        if (purged > 0) {
+            log.info("Purged {} sync removals", purged);
+        }
+    }
+
+    // One snapshot for all lists, so they agree with each other
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncResponseDTO getChanges(User technician, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = token != null && !token.isBlank() ? decodeToken(token) : null;
+        if (since != null && since.isBefore(now.minus(tokenTtl))) {
+            // Removals older than the TTL are purged: start over
+            since = null;
+        }
+
+        Long technicianId = technician.getId();
+        String next = encodeToken(now.minus(grace));
+        if (since == null) {
+            return new SyncResponseDTO(
+                    interventionService.getByTechnicianSince(technicianId, null),
+                    List.of(),
+                    machineRepository.findDTOByTechnicianId(technicianId),
+                    clientRepository.findDTOByTechnicianId(technicianId),
+                    next,
+                    true);
+        }
+
+        return new SyncResponseDTO(
+                interventionService.getByTechnicianSince(technicianId, since),
+                interventionRepository.findRemovedIdsByTechnicianId(technicianId, since),
+                machineRepository.findDTOByTechnicianIdChangedAfter(technicianId, since),
+                clientRepository.findDTOByTechnicianIdChangedAfter(technicianId, since),
+                next,
+                false);
+    }
+
+    // Rows are locked up front (in id order) and checked in memory, so a
+    // rejected change never rolls back the others; the accepted ones are
+    // written by one batched flush.
+    @Transactional
+    public List<SyncResultDTO> applyUpdates(User technician, List<SyncUpdateDTO> updates) {
+        if (updates.size() > MAX_UPLOAD_SIZE) {
+            throw new RuntimeException("Too many updates (max " + MAX_UPLOAD_SIZE + ")");
+        }
+
+        List<Long> ids = updates.stream()
+                .map(SyncUpdateDTO::getInterventionId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, Intervention> interventions = new HashMap<>();
+        if (!ids.isEmpty()) {
+            interventionRepository.findAllByIdForUpdate(ids);
+            interventionRepository.findByIdIn(ids).forEach(i -> interventions.put(i.getId(), i));
+        }
+
+        Map<Long, InterventionResponseDTO> before = new LinkedHashMap<>();
+        List<Outcome> outcomes = new ArrayList<>(updates.size());
+        for (SyncUpdateDTO update : updates) {
+            Intervention intervention = interventions.get(update.getInterventionId());
+            boolean descriptionChanged = update.getDescription() != null && !update.getDescription().isBlank();
+
+            if (intervention == null) {
+                outcomes.add(Outcome.NOT_FOUND);
+            } else if (intervention.getTechnician() == null
+                    || !intervention.getTechnician().getId().equals(technician.getId())) {
+                outcomes.add(Outcome.FORBIDDEN);
+            } else if (update.getBaseVersion() != null && !update.getBaseVersion().equals(intervention.getVersion())) {
+                outcomes.add(Outcome.CONFLICT);
+            } else if (update.getStatus() == null && !descriptionChanged) {
+                outcomes.add(Outcome.INVALID);
+            } else {
+                before.putIfAbsent(intervention.getId(), InterventionService.toDTO(intervention));
+                if (update.getStatus() != null) {
+                    intervention.setStatus(update.getStatus());
+                }
+                if (descriptionChanged) {
+                    intervention.setDescription(update.getDescription());
+                }
+                outcomes.add(Outcome.APPLIED);
+            }
+        }
+
+        // Versions and timestamps are bumped here, before building the results
+        interventionRepository.flush();
+        before.forEach((id, old) -> eventPublisher.publishEvent(new InterventionChangedEvent(
+                ChangeType.UPDATED, old, InterventionService.toDTO(interventions.get(id)))));
+
+        List<SyncResultDTO> results = new ArrayList<>(updates.size());
+        for (int n = 0; n < updates.size(); n++) {
+            Long id = updates.get(n).getInterventionId();
+            Outcome outcome = outcomes.get(n);
+            boolean visible = outcome != Outcome.NOT_FOUND && outcome != Outcome.FORBIDDEN;
+            results.add(new SyncResultDTO(id, outcome, visible ? toSyncDTO(interventions.get(id)) : null));
+        }
+        return results;
+    }
+
+    private static SyncInterventionDTO toSyncDTO(Intervention i) {
+        return new SyncInterventionDTO(
+                i.getId(),
+                i.getDescription(),
+                i.getPriority(),
+                i.getStatus(),
+                i.getCreatedAt(),
+                i.getMachine() != null ? i.getMachine().getId() : null,
+                i.getMachine() != null ? i.getMachine().getName() : null,
+                i.getTechnician() != null ? i.getTechnician().getId() : null,
+                i.getTechnician() != null ? i.getTechnician().getName() : null,
+                i.getVersion(),
+                i.getUpdatedAt()
+        );
+    }
+
+    // Token = base64url("<watermark>")
+    private static String encodeToken(LocalDateTime watermark) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(watermark.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static LocalDateTime decodeToken(String token) {
+        try {
+            return LocalDateTime.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sync token");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package maintenance_backend.example.demo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maintenance_backend.example.demo.event.AttachmentUploadedEvent;
+import maintenance_backend.example.demo.repository.AttachmentStore;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+
+// Renders JPEG thumbnails of image attachments on the bounded
+// thumbnailExecutor (AsyncConfig), one per content hash. PDFs get none.
+// Dimensions are read from the header first: images over MAX_SOURCE_PIXELS
+// are skipped, the rest are decoded subsampled to about twice the
+// thumbnail size, so a small file declaring a huge canvas cannot exhaust
+// the heap.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+
+    private static final int MAX_SIZE = 320;
+    private static final long MAX_SOURCE_BYTES = 40L * 1024 * 1024;
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final Set<String> RENDERABLE = Set.of("image/jpeg", "image/png", "image/gif");
+
+    private final AttachmentStore attachmentStore;
+    private final MeterRegistry meterRegistry;
+
+    @Async("thumbnailExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttachmentUploaded(AttachmentUploadedEvent event) {
+        render(event.getContentHash(), event.getContentType());
+    }
+
+    // Queues a missing thumbnail again (e.g. dropped on a full queue)
+    @Async("thumbnailExecutor")
+    public void request(String hash, String contentType) {
+        render(hash, contentType);
+    }
+
+    public boolean isRenderable(String contentType) {
+        return RENDERABLE.contains(contentType);
+    }
+
+    private void render(String hash, String contentType) {
+        Path source = attachmentStore.blob(hash);
+        Path target = attachmentStore.thumbnail(hash);
+        try {
+            if (!isRenderable(contentType) || Files.exists(target)
+                    || !Files.exists(source) || Files.size(source) > MAX_SOURCE_BYTES) {
+                return;
+            }
+
+            BufferedImage image = decode(hash, source);
+            if (image == null) {
+                return;
+            }
+
+            double scale = Math.min(1.0, (double) MAX_SIZE / Math.max(image.getWidth(), image.getHeight()));
+            int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+            BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = thumbnail.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(image, 0, 0, width, height, java.awt.Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+
+            // Written next to the store, then moved into place atomically
+            Path tmp = attachmentStore.newTempFile();
+            try {
+                ImageIO.write(thumbnail, "jpg", tmp.toFile());
+                Files.createDirectories(target.getParent());
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Undecodable uploads are expected; the attachment just has no thumbnail
+            meterRegistry.counter("attachments.thumbnails.failed", "reason", "error").increment();
+            log.warn("Thumbnail failed for {}: {}", hash, e.toString());
+        }
+    }
+
+    // Null when no reader understands the file or it is over the pixel budget
+    private BufferedImage decode(String hash, Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    meterRegistry.counter("attachments.thumbnails.failed", "reason", "too-large").increment();
+                    log.warn("Thumbnail skipped for {}: {}x{} exceeds {} pixels", hash, width, height, MAX_SOURCE_PIXELS);
+                    return null;
+                }
+
+                // Every step-th pixel; the bilinear scale-down does the rest
+                int step = Math.max(1, Math.max(width, height) / (MAX_SIZE * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package maintenance_backend.example.demo.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import maintenance_backend.example.demo.config.PrincipalCache;
+import maintenance_backend.example.demo.config.ReferenceDataCache;
 import maintenance_backend.example.demo.dto.UserRequestDTO;
 import maintenance_backend.example.demo.dto.UserResponseDTO;
+import maintenance_backend.example.demo.entity.Role;
 import maintenance_backend.example.demo.entity.User;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.UserChangedEvent;
 import maintenance_backend.example.demo.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -13,10 +20,14 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "fixpro.service", histogram = true)
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserResponseDTO create(UserRequestDTO dto) {
         User user = new User();
@@ -26,7 +37,25 @@ public class UserService {
         user.setRole(dto.getRole());
         user.setPassword(passwordEncoder.encode(dto.getPassword())); // 🔐 IMPORTANT
 
-        return toDTO(userRepository.save(user));
+        User saved = userRepository.save(user);
+        principalCache.invalidate(saved.getEmail());
+        UserResponseDTO created = toDTO(saved);
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.CREATED, null, created));
+        return created;
+    }
+
+    public UserResponseDTO updateRole(Long id, Role role) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        UserResponseDTO before = toDTO(user);
+
+        user.setRole(role);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(saved.getEmail());
+        referenceDataCache.evict(User.class, saved.getId());
+        UserResponseDTO after = toDTO(saved);
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.UPDATED, before, after));
+        return after;
     }
 
     public List<UserResponseDTO> getAll() {
@@ -37,7 +66,12 @@ public class UserService {
     }
 
     public void delete(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            principalCache.invalidate(user.getEmail());
+            referenceDataCache.evict(User.class, id);
+            eventPublisher.publishEvent(new UserChangedEvent(ChangeType.DELETED, toDTO(user), null));
+        });
     }
 
     private UserResponseDTO toDTO(User u) {
@@ -0,0 +1,347 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.TechnicianWorkloadDTO;
+import maintenance_backend.example.demo.dto.UserResponseDTO;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Role;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.event.UserChangedEvent;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// Open workload per technician, kept in memory and updated from the
+// write-path events like StatisticsService, so picking the least-loaded
+// technician never scans the intervention table.
+//
+// Auto-assignment reserves the picked technician's share until the CREATED
+// event has been applied; concurrent creations see each other's picks and
+// spread out instead of all landing on the same technician. Reservations
+// are per instance: several backend instances can still pick the same
+// technician for simultaneous creations.
+//
+// Reloads (startup, after purges) work like StatisticsService's: the
+// snapshot is read without blocking the listeners, and the changes it does
+// not contain yet are replayed onto it before it is swapped in.
+@Service
+@RequiredArgsConstructor
+public class WorkloadService {
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final InterventionRepository interventionRepository;
+    private final UserRepository userRepository;
+    private final ChangeFence changeFence;
+    private final PlatformTransactionManager transactionManager;
+
+    // Guards loads and every Load in it; critical sections are a few
+    // array updates or one pass over the technicians
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Map<Long, Load> loads = new HashMap<>();
+
+    // While a reload runs (guarded by lock), null otherwise: events that may
+    // predate its snapshot, then those known to be newer
+    private Touched touched;
+    private Queue<Consumer<Map<Long, Load>>> newer;
+
+    public List<TechnicianWorkloadDTO> getWorkloads() {
+        lock.lock();
+        try {
+            return loads.entrySet().stream()
+                    .filter(e -> e.getValue().technician)
+                    .sorted(LEAST_LOADED)
+                    .map(e -> toDTO(e.getKey(), e.getValue()))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Least-loaded technician right now, without reserving it
+    public Optional<TechnicianWorkloadDTO> suggest() {
+        lock.lock();
+        try {
+            return leastLoaded().map(e -> toDTO(e.getKey(), e.getValue()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Picks the least-loaded technician and counts the new intervention
+    // against it straight away. Pass the result to releaseWhenApplied once
+    // the intervention has been saved (or failed to save).
+    public Optional<Reservation> reserve(Priority priority) {
+        lock.lock();
+        try {
+            return leastLoaded().map(e -> {
+                Reservation reservation = new Reservation(e.getKey(), weight(priority));
+                e.getValue().reserve(reservation.weight(), 1);
+                return reservation;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Inside a transaction the CREATED event is applied after commit, so the
+    // reservation is dropped after completion; otherwise it already was
+    public void releaseWhenApplied(Reservation reservation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(reservation);
+                }
+            });
+        } else {
+            release(reservation);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Touched t = new Touched();
+            Queue<Consumer<Map<Long, Load>>> later = new ConcurrentLinkedQueue<>();
+            locked(() -> touched = t);
+
+            TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+            snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            snapshot.setReadOnly(true);
+            try {
+                snapshot.executeWithoutResult(status -> {
+                    Map<Long, Load> fresh = load();
+
+                    // From here on t is complete (see ChangeFence)
+                    changeFence.awaitEarlier();
+                    locked(() -> {
+                        touched = null;
+                        newer = later;
+                    });
+
+                    Map<Long, Long> versions = t.interventions.snapshotVersions(interventionRepository);
+
+                    locked(() -> {
+                        // User events carry the whole state, replaying is idempotent
+                        t.users.values().forEach(event -> applyUser(fresh, event));
+                        t.interventions.replay(versions, event -> {
+                            apply(fresh, event.getBefore(), -1);
+                            apply(fresh, event.getAfter(), 1);
+                        });
+                        later.forEach(change -> change.accept(fresh));
+
+                        // Keep in-flight reservations
+                        loads.forEach((id, old) -> {
+                            if (old.reservedCount != 0) {
+                                fresh.computeIfAbsent(id, k -> new Load()).reserve(old.reserved, old.reservedCount);
+                            }
+                        });
+                        newer = null;
+                        loads = fresh;
+                    });
+                });
+            } finally {
+                locked(() -> {
+                    touched = null;
+                    newer = null;
+                });
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Map<Long, Load> load() {
+        Map<Long, Load> fresh = new HashMap<>();
+
+        for (Object[] row : userRepository.findIdAndNameByRole(Role.TECHNICIAN)) {
+            Load load = new Load();
+            load.name = (String) row[1];
+            load.technician = true;
+            fresh.put((Long) row[0], load);
+        }
+        for (Object[] row : interventionRepository.countOpenByTechnician()) {
+            Load load = fresh.computeIfAbsent((Long) row[0], id -> new Load());
+            load.add((Status) row[1], (Priority) row[2], (Long) row[3]);
+        }
+        return fresh;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterventionChanged(InterventionChangedEvent event) {
+        lock.lock();
+        try {
+            apply(loads, event.getBefore(), -1);
+            apply(loads, event.getAfter(), 1);
+            if (touched != null) {
+                touched.interventions.add(event);
+            } else if (newer != null) {
+                newer.add(fresh -> {
+                    apply(fresh, event.getBefore(), -1);
+                    apply(fresh, event.getAfter(), 1);
+                });
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        lock.lock();
+        try {
+            applyUser(loads, event);
+            if (touched != null) {
+                touched.users.put(user(event).getId(), event);
+            } else if (newer != null) {
+                newer.add(fresh -> applyUser(fresh, event));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void applyUser(Map<Long, Load> loads, UserChangedEvent event) {
+        UserResponseDTO user = user(event);
+        if (event.getType() == ChangeType.DELETED) {
+            loads.remove(user.getId());
+            return;
+        }
+        Load load = loads.computeIfAbsent(user.getId(), id -> new Load());
+        load.name = user.getName();
+        load.technician = user.getRole() == Role.TECHNICIAN;
+    }
+
+    private static UserResponseDTO user(UserChangedEvent event) {
+        return event.getAfter() != null ? event.getAfter() : event.getBefore();
+    }
+
+    private void release(Reservation reservation) {
+        lock.lock();
+        try {
+            Load load = loads.get(reservation.technicianId());
+            if (load != null) {
+                load.reserve(-reservation.weight(), -1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void locked(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void apply(Map<Long, Load> loads, InterventionResponseDTO i, long delta) {
+        if (i == null || i.getTechnicianId() == null || !isOpen(i.getStatus())) {
+            return;
+        }
+        Load load = loads.computeIfAbsent(i.getTechnicianId(), id -> new Load());
+        if (load.name == null) {
+            load.name = i.getTechnicianName();
+        }
+        load.add(i.getStatus(), i.getPriority(), delta);
+    }
+
+    private Optional<Map.Entry<Long, Load>> leastLoaded() {
+        return loads.entrySet().stream()
+                .filter(e -> e.getValue().technician)
+                .min(LEAST_LOADED);
+    }
+
+    private static TechnicianWorkloadDTO toDTO(Long technicianId, Load load) {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        for (Status status : STATUSES) {
+            if (isOpen(status)) {
+                byStatus.put(status, load.byStatus[status.ordinal()]);
+            }
+        }
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (Priority priority : PRIORITIES) {
+            byPriority.put(priority, load.byPriority[priority.ordinal()]);
+        }
+        return new TechnicianWorkloadDTO(technicianId, load.name, load.open, byStatus, byPriority, load.score);
+    }
+
+    private static boolean isOpen(Status status) {
+        return status == null || !status.isClosed();
+    }
+
+    // LOW 1, MEDIUM 2, HIGH 3; unset counts as LOW
+    private static int weight(Priority priority) {
+        return priority != null ? priority.ordinal() + 1 : 1;
+    }
+
+    // Lowest weighted load, then fewest open, then lowest id (reservations included)
+    private static final Comparator<Map.Entry<Long, Load>> LEAST_LOADED = Comparator
+            .comparingLong((Map.Entry<Long, Load> e) -> e.getValue().score + e.getValue().reserved)
+            .thenComparingLong(e -> e.getValue().open + e.getValue().reservedCount)
+            .thenComparing(Map.Entry.comparingByKey());
+
+    public record Reservation(Long technicianId, int weight) {
+    }
+
+    // Events received while a reload reads its snapshot; latest per user
+    private static class Touched {
+        final InterventionChangeBuffer interventions = new InterventionChangeBuffer();
+        final Map<Long, UserChangedEvent> users = new HashMap<>();
+    }
+
+    private static class Load {
+        String name;
+        boolean technician; // role TECHNICIAN; others can hold interventions but are never picked
+        final long[] byStatus = new long[STATUSES.length];
+        final long[] byPriority = new long[PRIORITIES.length];
+        long open;
+        long score;
+        long reserved;
+        long reservedCount;
+
+        void reserve(long weight, long count) {
+            reserved += weight;
+            reservedCount += count;
+        }
+
+        void add(Status status, Priority priority, long count) {
+            if (status != null) {
+                byStatus[status.ordinal()] += count;
+            }
+            if (priority != null) {
+                byPriority[priority.ordinal()] += count;
+            }
+            open += count;
+            score += weight(priority) * count;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+-- Technician delta sync (SyncService).
+-- Changed interventions: the technician's rows with updated_at past the
+-- client's watermark.
+CREATE INDEX IF NOT EXISTS idx_intervention_technician_updated_at ON intervention (technician_id, updated_at);
+
+-- Removed interventions: one row each time an intervention leaves a
+-- technician (reassigned, unassigned, deleted, cascaded or archived), so
+-- the client can drop it. Recorded by trigger to catch the bulk and
+-- cascading paths too; purged after sync.token-ttl (InterventionArchiver).
+CREATE TABLE IF NOT EXISTS intervention_sync_removal (
+    intervention_id BIGINT       NOT NULL,
+    technician_id   BIGINT       NOT NULL,
+    removed_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_intervention_sync_removal_technician ON intervention_sync_removal (technician_id, removed_at);
+CREATE INDEX IF NOT EXISTS idx_intervention_sync_removal_removed_at ON intervention_sync_removal (removed_at);
+
+CREATE OR REPLACE FUNCTION record_intervention_sync_removal()
+RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF OLD.technician_id IS NOT NULL
+            AND (TG_OP = 'DELETE' OR NEW.technician_id IS DISTINCT FROM OLD.technician_id) THEN
+        INSERT INTO intervention_sync_removal (intervention_id, technician_id, removed_at)
+        VALUES (OLD.id, OLD.technician_id, localtimestamp);
+    END IF;
+    RETURN NULL;
+END $$;
+
+-- Defined on the partitioned parent, so every partition gets it
+CREATE TRIGGER intervention_sync_removal
+    AFTER UPDATE OF technician_id OR DELETE ON intervention
+    FOR EACH ROW EXECUTE FUNCTION record_intervention_sync_removal();
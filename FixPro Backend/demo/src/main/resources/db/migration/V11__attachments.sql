@@ -0,0 +1,19 @@
+-- Intervention attachments (AttachmentService). The bytes live in the
+-- content-addressed file store (AttachmentStore), keyed by content_hash, so
+-- rows with the same hash share one file. No foreign key to intervention:
+-- its primary key is (id, created_at) since V8.
+CREATE SEQUENCE IF NOT EXISTS attachment_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS attachment (
+    id              BIGINT       PRIMARY KEY,
+    intervention_id BIGINT       NOT NULL,
+    content_hash    VARCHAR(64)  NOT NULL,
+    content_type    VARCHAR(255) NOT NULL,
+    file_name       VARCHAR(255),
+    size            BIGINT       NOT NULL,
+    uploaded_by_id  BIGINT,
+    created_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_attachment_intervention_id ON attachment (intervention_id);
+CREATE INDEX IF NOT EXISTS idx_attachment_content_hash ON attachment (content_hash);
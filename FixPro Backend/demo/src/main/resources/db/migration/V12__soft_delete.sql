@@ -0,0 +1,11 @@
+-- Soft delete for clients and machines. Deleting one is a single UPDATE
+-- (the client's machines are marked with it); the rows disappear from every
+-- query at once and SoftDeletePurger removes them, their interventions and
+-- attachments later in bounded batches. Plans go with their machine
+-- (ON DELETE CASCADE, V9).
+ALTER TABLE client ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+ALTER TABLE machine ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- Purge work lists; live rows are not indexed
+CREATE INDEX IF NOT EXISTS idx_client_deleted ON client (id) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_machine_deleted ON machine (id) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,37 @@
+-- Schema previously created by hibernate ddl-auto=update.
+-- IF NOT EXISTS so existing databases can be migrated in place
+-- (spring.flyway.baseline-version=0).
+
+CREATE TABLE IF NOT EXISTS client (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_name VARCHAR(255),
+    address      VARCHAR(255),
+    phone        VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(255),
+    email        VARCHAR(255),
+    password     VARCHAR(255),
+    phone_number VARCHAR(255),
+    role         VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS machine (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(255),
+    serial_number VARCHAR(255),
+    status        VARCHAR(255),
+    client_id     BIGINT REFERENCES client (id)
+);
+
+CREATE TABLE IF NOT EXISTS intervention (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description   VARCHAR(255),
+    priority      VARCHAR(255),
+    status        VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    machine_id    BIGINT REFERENCES machine (id),
+    technician_id BIGINT REFERENCES users (id)
+);
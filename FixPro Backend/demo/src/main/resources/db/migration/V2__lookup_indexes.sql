@@ -0,0 +1,13 @@
+-- users.email: login and JwtFilter lookups
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email);
+
+-- machine.client_id: machines of a client, cascade deletes
+CREATE INDEX IF NOT EXISTS idx_machine_client_id ON machine (client_id);
+
+-- intervention: each index leads with the lookup column (technician_id,
+-- machine_id, status, created_at) and continues with the keyset sort key
+CREATE INDEX IF NOT EXISTS idx_intervention_created_at_id ON intervention (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_intervention_status_created_at ON intervention (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_intervention_priority_created_at ON intervention (priority, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_intervention_machine_created_at ON intervention (machine_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_intervention_technician_created_at ON intervention (technician_id, created_at, id);
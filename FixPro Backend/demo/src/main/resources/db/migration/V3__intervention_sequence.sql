@@ -0,0 +1,6 @@
+-- Intervention ids come from a pooled sequence so inserts can be JDBC-batched.
+-- INCREMENT BY must match allocationSize on Intervention; Hibernate's pooled
+-- optimizer hands out (value - 49 .. value) for each nextval.
+CREATE SEQUENCE IF NOT EXISTS intervention_seq INCREMENT BY 50;
+
+SELECT setval('intervention_seq', COALESCE((SELECT MAX(id) FROM intervention), 0) + 50, false);
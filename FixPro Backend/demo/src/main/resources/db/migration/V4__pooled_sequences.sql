@@ -0,0 +1,9 @@
+-- Pooled sequences for the remaining entities (see V3 for intervention).
+-- INCREMENT BY matches IdGeneration.ALLOCATION_SIZE.
+CREATE SEQUENCE IF NOT EXISTS client_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS machine_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+
+SELECT setval('client_seq', COALESCE((SELECT MAX(id) FROM client), 0) + 50, false);
+SELECT setval('machine_seq', COALESCE((SELECT MAX(id) FROM machine), 0) + 50, false);
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
@@ -0,0 +1,15 @@
+-- Search (SearchRepository).
+-- Trigram GIN indexes serve ILIKE '%term%' / 'term%' and similarity() on the
+-- typeahead columns. Intervention descriptions also get a stored tsvector
+-- for ranked full-text queries. 'simple' config: no stemming or stop words,
+-- since descriptions mix languages and part numbers.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_machine_serial_number_trgm ON machine USING gin (serial_number gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_machine_name_trgm ON machine USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_client_company_name_trgm ON client USING gin (company_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_intervention_description_trgm ON intervention USING gin (description gin_trgm_ops);
+
+ALTER TABLE intervention ADD COLUMN IF NOT EXISTS description_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(description, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_intervention_description_tsv ON intervention USING gin (description_tsv);
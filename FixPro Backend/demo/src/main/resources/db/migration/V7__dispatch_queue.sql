@@ -0,0 +1,8 @@
+-- Dispatch queue (DispatchRepository): unassigned CREATED interventions,
+-- HIGH first, then oldest. Partial index, so it only holds the queue itself;
+-- the priority CASE must stay identical to DispatchRepository.PRIORITY_RANK.
+CREATE INDEX IF NOT EXISTS idx_intervention_dispatch_queue ON intervention (
+    (CASE priority WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 WHEN 'LOW' THEN 2 ELSE 3 END),
+    created_at,
+    id
+) WHERE status = 'CREATED' AND technician_id IS NULL;
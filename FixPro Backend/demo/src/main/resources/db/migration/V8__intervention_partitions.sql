@@ -0,0 +1,125 @@
+-- Interventions are range-partitioned by month on created_at, so time-bounded
+-- reads only touch the partitions they need, and closed work older than
+-- interventions.archive.closed-after moves to intervention_archive
+-- (InterventionArchiver). A partitioned table's primary key must contain the
+-- partition key, hence (id, created_at); ids still come from intervention_seq.
+
+-- Creates the missing monthly partitions intervention_YYYY_MM covering
+-- [from_month, to_month]. Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ensure_intervention_partitions(from_month date, to_month date)
+RETURNS integer LANGUAGE plpgsql AS $$
+DECLARE
+    month   date := date_trunc('month', from_month)::date;
+    created integer := 0;
+    part    text;
+BEGIN
+    WHILE month <= to_month LOOP
+        part := 'intervention_' || to_char(month, 'YYYY_MM');
+        IF to_regclass(part) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF intervention FOR VALUES FROM (%L) TO (%L)',
+                           part, month, (month + interval '1 month')::date);
+            created := created + 1;
+        END IF;
+        month := (month + interval '1 month')::date;
+    END LOOP;
+    RETURN created;
+END $$;
+
+-- Drops the monthly partitions that end on or before before_month and hold
+-- no rows any more (everything in them was archived). Skips a partition
+-- instead of waiting when the parent is busy. Returns the number dropped.
+CREATE OR REPLACE FUNCTION drop_empty_intervention_partitions(before_month date)
+RETURNS integer LANGUAGE plpgsql AS $$
+DECLARE
+    part    record;
+    is_used boolean;
+    dropped integer := 0;
+BEGIN
+    PERFORM set_config('lock_timeout', '2s', true);
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'intervention'::regclass
+          AND c.relname ~ '^intervention_[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substr(c.relname, 14), 'YYYY_MM') + interval '1 month')::date <= before_month
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', part.relname) INTO is_used;
+        IF NOT is_used THEN
+            BEGIN
+                EXECUTE format('DROP TABLE %I', part.relname);
+                dropped := dropped + 1;
+            EXCEPTION WHEN lock_not_available THEN
+                RAISE NOTICE 'skipped busy partition %', part.relname;
+            END;
+        END IF;
+    END LOOP;
+    RETURN dropped;
+END $$;
+
+ALTER TABLE intervention RENAME TO intervention_unpartitioned;
+
+CREATE TABLE intervention (
+    id            BIGINT       NOT NULL,
+    description   VARCHAR(255),
+    priority      VARCHAR(255),
+    status        VARCHAR(255),
+    created_at    TIMESTAMP(6) NOT NULL,
+    machine_id    BIGINT REFERENCES machine (id),
+    technician_id BIGINT REFERENCES users (id),
+    version       BIGINT       NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP(6) NOT NULL DEFAULT now(),
+    description_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', coalesce(description, ''))) STORED,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside the pre-created months; kept empty by
+-- InterventionArchiver creating partitions ahead of time
+CREATE TABLE intervention_default PARTITION OF intervention DEFAULT;
+
+SELECT ensure_intervention_partitions(
+        COALESCE((SELECT MIN(created_at) FROM intervention_unpartitioned)::date, current_date),
+        (current_date + interval '3 months')::date);
+
+INSERT INTO intervention (id, description, priority, status, created_at,
+                          machine_id, technician_id, version, updated_at)
+SELECT id, description, priority, status, COALESCE(created_at, updated_at),
+       machine_id, technician_id, version, updated_at
+FROM intervention_unpartitioned;
+
+DROP TABLE intervention_unpartitioned;
+
+-- Indexes from V2, V6 and V7, now created on every partition
+CREATE INDEX idx_intervention_created_at_id ON intervention (created_at, id);
+CREATE INDEX idx_intervention_status_created_at ON intervention (status, created_at, id);
+CREATE INDEX idx_intervention_priority_created_at ON intervention (priority, created_at, id);
+CREATE INDEX idx_intervention_machine_created_at ON intervention (machine_id, created_at, id);
+CREATE INDEX idx_intervention_technician_created_at ON intervention (technician_id, created_at, id);
+CREATE INDEX idx_intervention_description_trgm ON intervention USING gin (description gin_trgm_ops);
+CREATE INDEX idx_intervention_description_tsv ON intervention USING gin (description_tsv);
+CREATE INDEX idx_intervention_dispatch_queue ON intervention (
+    (CASE priority WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 WHEN 'LOW' THEN 2 ELSE 3 END),
+    created_at,
+    id
+) WHERE status = 'CREATED' AND technician_id IS NULL;
+
+-- Archived (closed) interventions, read through /api/interventions/archive.
+-- No foreign keys: history outlives deleted machines and technicians.
+CREATE TABLE IF NOT EXISTS intervention_archive (
+    id            BIGINT       PRIMARY KEY,
+    description   VARCHAR(255),
+    priority      VARCHAR(255),
+    status        VARCHAR(255),
+    created_at    TIMESTAMP(6) NOT NULL,
+    machine_id    BIGINT,
+    technician_id BIGINT,
+    version       BIGINT       NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    archived_at   TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_intervention_archive_created_at_id ON intervention_archive (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_intervention_archive_machine_created_at ON intervention_archive (machine_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_intervention_archive_technician_created_at ON intervention_archive (technician_id, created_at, id);
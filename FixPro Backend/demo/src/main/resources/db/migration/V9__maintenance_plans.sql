@@ -0,0 +1,25 @@
+-- Recurring preventive maintenance per machine (MaintenancePlanScheduler).
+-- A plan recurs every interval_days or on a cron expression, never both.
+CREATE SEQUENCE IF NOT EXISTS maintenance_plan_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS maintenance_plan (
+    id                BIGINT       PRIMARY KEY,
+    machine_id        BIGINT       NOT NULL REFERENCES machine (id) ON DELETE CASCADE,
+    description       VARCHAR(255),
+    priority          VARCHAR(255),
+    interval_days     INTEGER,
+    cron              VARCHAR(255),
+    auto_assign       BOOLEAN      NOT NULL DEFAULT false,
+    active            BOOLEAN      NOT NULL DEFAULT true,
+    next_due_at       TIMESTAMP(6) NOT NULL,
+    last_generated_at TIMESTAMP(6),
+    version           BIGINT       NOT NULL DEFAULT 0,
+    updated_at        TIMESTAMP(6) NOT NULL DEFAULT now(),
+    CHECK ((interval_days IS NULL) <> (cron IS NULL))
+);
+
+CREATE INDEX IF NOT EXISTS idx_maintenance_plan_machine_id ON maintenance_plan (machine_id);
+
+-- The due-time queue: each scheduler tick reads only the head of this
+-- index (next_due_at <= now), however many plans exist
+CREATE INDEX IF NOT EXISTS idx_maintenance_plan_due ON maintenance_plan (next_due_at, id) WHERE active;
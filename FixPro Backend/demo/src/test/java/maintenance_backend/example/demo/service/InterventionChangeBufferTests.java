@@ -0,0 +1,65 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Which buffered events a statistics/workload reload replays onto its snapshot
+class InterventionChangeBufferTests {
+
+    private final InterventionChangeBuffer buffer = new InterventionChangeBuffer();
+
+    @Test
+    void skipsChangesTheSnapshotAlreadyContains() {
+        InterventionChangedEvent seen = updated(1L, 3);
+        InterventionChangedEvent unseen = updated(1L, 4);
+        buffer.add(seen);
+        buffer.add(unseen);
+
+        // The snapshot read row 1 at version 4: 3 -> 4 is in it, 4 -> 5 is not
+        assertThat(replayed(Map.of(1L, 4L))).containsExactly(unseen);
+    }
+
+    @Test
+    void replaysRowsCreatedAfterTheSnapshot() {
+        InterventionChangedEvent created = new InterventionChangedEvent(ChangeType.CREATED, null, row(2L, 0));
+        InterventionChangedEvent updated = updated(2L, 0);
+        buffer.add(created);
+        buffer.add(updated);
+
+        assertThat(replayed(Map.of())).containsExactly(created, updated);
+    }
+
+    @Test
+    void dropsRowsDeletedAroundTheSnapshot() {
+        buffer.add(updated(3L, 1));
+        buffer.add(new InterventionChangedEvent(ChangeType.DELETED, row(3L, 2), null));
+
+        assertThat(replayed(Map.of())).isEmpty();
+    }
+
+    private List<InterventionChangedEvent> replayed(Map<Long, Long> snapshotVersions) {
+        List<InterventionChangedEvent> result = new ArrayList<>();
+        buffer.replay(snapshotVersions, result::add);
+        return result;
+    }
+
+    private static InterventionChangedEvent updated(Long id, long fromVersion) {
+        return new InterventionChangedEvent(ChangeType.UPDATED, row(id, fromVersion), row(id, fromVersion + 1));
+    }
+
+    private static InterventionResponseDTO row(Long id, long version) {
+        return new InterventionResponseDTO(id, "Pump", Priority.MEDIUM, Status.CREATED, LocalDateTime.now(),
+                null, null, null, null, version);
+    }
+}
@@ -0,0 +1,105 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.dto.InterventionRequestDTO;
+import maintenance_backend.example.demo.dto.InterventionTechnicianUpdateDTO;
+import maintenance_backend.example.demo.entity.*;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Optimistic locking: If-Match pins the version a client last saw
+@SpringBootTest
+@ActiveProfiles("test")
+class InterventionUpdateTests {
+
+    @Autowired private InterventionService interventionService;
+    @Autowired private InterventionRepository interventionRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User technician;
+    private User admin;
+    private Long interventionId;
+
+    @BeforeEach
+    void seed() {
+        interventionRepository.deleteAllInBatch();
+
+        technician = user("tech@example.com", Role.TECHNICIAN);
+        admin = user("admin@example.com", Role.ADMIN);
+
+        Intervention intervention = new Intervention();
+        intervention.setDescription("Check");
+        intervention.setPriority(Priority.MEDIUM);
+        intervention.setStatus(Status.ASSIGNED);
+        intervention.setTechnician(technician);
+        interventionId = interventionRepository.save(intervention).getId();
+    }
+
+    @Test
+    void currentIfMatchIsAccepted() {
+        String etag = etag();
+
+        assertThat(interventionService.technicianUpdate(interventionId, status(Status.IN_PROGRESS), technician, etag)
+                .getStatus()).isEqualTo(Status.IN_PROGRESS);
+    }
+
+    @Test
+    void staleIfMatchIsRejected() {
+        String etag = etag();
+        interventionService.update(interventionId, reassign(), admin, null);
+
+        assertThatThrownBy(() ->
+                interventionService.technicianUpdate(interventionId, status(Status.DONE), technician, etag))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+        assertThat(interventionService.getById(interventionId).orElseThrow().getStatus())
+                .isEqualTo(Status.ASSIGNED);
+    }
+
+    @Test
+    void everyWriteChangesTheEtag() {
+        String etag = etag();
+        interventionService.technicianUpdate(interventionId, status(Status.IN_PROGRESS), technician, null);
+
+        assertThat(etag()).isNotEqualTo(etag);
+    }
+
+    private String etag() {
+        return "\"" + interventionService.getVersion(interventionId, technician).orElseThrow().getTag() + "\"";
+    }
+
+    private InterventionTechnicianUpdateDTO status(Status status) {
+        InterventionTechnicianUpdateDTO dto = new InterventionTechnicianUpdateDTO();
+        dto.setStatus(status);
+        return dto;
+    }
+
+    private InterventionRequestDTO reassign() {
+        InterventionRequestDTO dto = new InterventionRequestDTO();
+        dto.setDescription("Check again");
+        dto.setPriority(Priority.HIGH);
+        dto.setStatus(Status.ASSIGNED);
+        dto.setTechnicianId(technician.getId());
+        return dto;
+    }
+
+    private User user(String email, Role role) {
+        return userRepository.findByEmail(email).orElseGet(() -> {
+            User u = new User();
+            u.setName(email);
+            u.setEmail(email);
+            u.setPassword("x");
+            u.setRole(role);
+            return userRepository.save(u);
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.entity.MaintenancePlan;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaintenancePlanServiceTests {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2025, 1, 10, 6, 0);
+
+    @Test
+    void intervalPlanMovesOnePeriodAhead() {
+        MaintenancePlan plan = intervalPlan(7);
+
+        assertThat(MaintenancePlanService.nextDueAfter(plan, DUE, DUE.plusHours(1)))
+                .isEqualTo(DUE.plusDays(7));
+    }
+
+    @Test
+    void intervalPlanSkipsMissedPeriods() {
+        // Scheduler down for three weeks: one intervention now, next due stays on the grid
+        MaintenancePlan plan = intervalPlan(7);
+
+        assertThat(MaintenancePlanService.nextDueAfter(plan, DUE, DUE.plusDays(21)))
+                .isEqualTo(DUE.plusDays(28));
+    }
+
+    @Test
+    void calendarPlanFollowsCron() {
+        // 06:00 on the first day of every third month
+        MaintenancePlan plan = new MaintenancePlan();
+        plan.setCron("0 0 6 1 */3 *");
+
+        assertThat(MaintenancePlanService.nextDueAfter(plan, DUE, DUE.plusHours(1)))
+                .isEqualTo(LocalDateTime.of(2025, 4, 1, 6, 0));
+    }
+
+    private static MaintenancePlan intervalPlan(int days) {
+        MaintenancePlan plan = new MaintenancePlan();
+        plan.setIntervalDays(days);
+        return plan;
+    }
+}
@@ -0,0 +1,180 @@
+package maintenance_backend.example.demo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import maintenance_backend.example.demo.dto.InterventionFilterDTO;
+import maintenance_backend.example.demo.dto.InterventionTechnicianUpdateDTO;
+import maintenance_backend.example.demo.entity.*;
+import maintenance_backend.example.demo.repository.ClientRepository;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.MachineRepository;
+import maintenance_backend.example.demo.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Guards against N+1 regressions: every list/detail path must stay a
+// single SQL statement no matter how many rows it returns.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class QueryCountTests {
+
+    private static final int MACHINES = 5;
+    private static final int INTERVENTIONS_PER_MACHINE = 4;
+
+    @Autowired private InterventionService interventionService;
+    @Autowired private MachineService machineService;
+    @Autowired private ClientService clientService;
+
+    @Autowired private InterventionRepository interventionRepository;
+    @Autowired private MachineRepository machineRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private User technician;
+    private Long interventionId;
+
+    @BeforeEach
+    void seed() {
+        interventionRepository.deleteAllInBatch();
+        machineRepository.deleteAllInBatch();
+        clientRepository.deleteAllInBatch();
+
+        technician = userRepository.findByEmail("tech@example.com").orElseGet(() -> {
+            User u = new User();
+            u.setName("Tech");
+            u.setEmail("tech@example.com");
+            u.setPassword("x");
+            u.setRole(Role.TECHNICIAN);
+            return userRepository.save(u);
+        });
+
+        Client client = new Client();
+        client.setCompanyName("ACME");
+        client = clientRepository.save(client);
+
+        for (int m = 0; m < MACHINES; m++) {
+            Machine machine = new Machine();
+            machine.setName("Machine " + m);
+            machine.setSerialNumber("SN-" + m);
+            machine.setStatus(MachineStatus.ACTIVE);
+            machine.setClient(client);
+            machine = machineRepository.save(machine);
+
+            for (int i = 0; i < INTERVENTIONS_PER_MACHINE; i++) {
+                Intervention intervention = new Intervention();
+                intervention.setDescription("Check " + m + "-" + i);
+                intervention.setPriority(Priority.MEDIUM);
+                intervention.setStatus(Status.ASSIGNED);
+                intervention.setMachine(machine);
+                intervention.setTechnician(technician);
+                interventionId = interventionRepository.save(intervention).getId();
+            }
+        }
+
+        statistics().clear();
+    }
+
+    @Test
+    void interventionListIsOneStatement() {
+        assertThat(interventionService.getAll()).hasSize(MACHINES * INTERVENTIONS_PER_MACHINE);
+        assertStatements(1);
+    }
+
+    @Test
+    void interventionPageIsOneStatement() {
+        assertThat(interventionService.getPage(new InterventionFilterDTO(), null, 10).getItems()).hasSize(10);
+        assertStatements(1);
+    }
+
+    @Test
+    void technicianInterventionsIsOneStatement() {
+        assertThat(interventionService.getByTechnician(technician.getId()))
+                .hasSize(MACHINES * INTERVENTIONS_PER_MACHINE);
+        assertStatements(1);
+    }
+
+    @Test
+    void interventionDetailIsOneStatement() {
+        assertThat(interventionService.getById(interventionId)).isPresent();
+        assertStatements(1);
+    }
+
+    @Test
+    void interventionEntityDetailFetchesAssociations() {
+        Intervention intervention = interventionService.getEntityById(interventionId);
+        // Must not trigger lazy loading outside the transaction
+        assertThat(intervention.getMachine().getName()).isNotNull();
+        assertThat(intervention.getMachine().getClient().getCompanyName()).isEqualTo("ACME");
+        assertThat(intervention.getTechnician().getName()).isEqualTo("Tech");
+        assertStatements(1);
+    }
+
+    @Test
+    void technicianEntityListFetchesAssociations() {
+        interventionRepository.findByTechnicianId(technician.getId())
+                .forEach(i -> assertThat(i.getMachine().getClient().getCompanyName()).isEqualTo("ACME"));
+        assertStatements(1);
+    }
+
+    @Test
+    void machineListIsOneStatement() {
+        assertThat(machineService.getAll()).hasSize(MACHINES);
+        assertStatements(1);
+    }
+
+    @Test
+    void clientListIsOneStatement() {
+        assertThat(clientService.getAllClients()).hasSize(1);
+        assertStatements(1);
+    }
+
+    @Test
+    void interventionVersionCheckIsOneStatement() {
+        assertThat(interventionService.getVersion(interventionId, technician)).isPresent();
+        assertStatements(1);
+    }
+
+    @Test
+    void statusOnlyUpdateIsReadPlusUpdate() {
+        InterventionTechnicianUpdateDTO dto = new InterventionTechnicianUpdateDTO();
+        dto.setStatus(Status.IN_PROGRESS);
+
+        assertThat(interventionService.technicianUpdate(interventionId, dto, technician, null).getStatus())
+                .isEqualTo(Status.IN_PROGRESS);
+        assertStatements(2);
+    }
+
+    @Test
+    void repeatedClientListIsServedFromQueryCache() {
+        clientService.getAllClients();
+        statistics().clear();
+
+        assertThat(clientService.getAllClients()).hasSize(1);
+        assertStatements(0);
+    }
+
+    @Test
+    void machineLookupIsServedFromSecondLevelCache() {
+        Long machineId = machineRepository.findAll().get(0).getId();
+        statistics().clear();
+
+        assertThat(machineRepository.findById(machineId)).isPresent();
+        assertStatements(0);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void assertStatements(long expected) {
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,94 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.dto.ClientResponseDTO;
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.dto.MachineRequestDTO;
+import maintenance_backend.example.demo.entity.*;
+import maintenance_backend.example.demo.repository.ClientRepository;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.MachineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Deleting a client only marks it and its machines; they drop out of every
+// read at once while the rows wait for SoftDeletePurger
+@SpringBootTest
+@ActiveProfiles("test")
+class SoftDeleteTests {
+
+    @Autowired private ClientService clientService;
+    @Autowired private MachineService machineService;
+    @Autowired private InterventionService interventionService;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private MachineRepository machineRepository;
+    @Autowired private InterventionRepository interventionRepository;
+
+    private Long clientId;
+    private Long machineId;
+    private Long interventionId;
+
+    @BeforeEach
+    void seed() {
+        interventionRepository.deleteAllInBatch();
+        machineRepository.deleteAllInBatch();
+        clientRepository.deleteAllInBatch();
+
+        Client client = new Client();
+        client.setCompanyName("ACME");
+        clientId = clientRepository.save(client).getId();
+
+        Machine machine = new Machine();
+        machine.setName("Press");
+        machine.setStatus(MachineStatus.ACTIVE);
+        machine.setClient(client);
+        machineId = machineRepository.save(machine).getId();
+
+        Intervention intervention = new Intervention();
+        intervention.setDescription("Check");
+        intervention.setPriority(Priority.MEDIUM);
+        intervention.setStatus(Status.CREATED);
+        intervention.setMachine(machine);
+        interventionId = interventionRepository.save(intervention).getId();
+    }
+
+    @Test
+    void deletedClientAndMachinesAreHiddenButKept() {
+        clientService.deleteClient(clientId);
+
+        assertThat(clientService.getAllClients()).extracting(ClientResponseDTO::getId).doesNotContain(clientId);
+        assertThat(clientService.getClientById(clientId)).isEmpty();
+        assertThat(machineService.getAll()).isEmpty();
+        assertThat(machineService.getById(machineId)).isEmpty();
+
+        assertThat(clientRepository.findById(clientId).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(machineRepository.findById(machineId).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(interventionRepository.existsById(interventionId)).isTrue();
+    }
+
+    @Test
+    void interventionsOfDeletedMachinesLeaveTheLists() {
+        assertThat(interventionService.getAll()).extracting(InterventionResponseDTO::getId).contains(interventionId);
+
+        machineService.delete(machineId);
+
+        assertThat(interventionService.getAll()).extracting(InterventionResponseDTO::getId).doesNotContain(interventionId);
+    }
+
+    @Test
+    void deletedClientCannotGetNewMachines() {
+        clientService.deleteClient(clientId);
+
+        MachineRequestDTO dto = new MachineRequestDTO();
+        dto.setName("Lathe");
+        dto.setStatus(MachineStatus.ACTIVE);
+        dto.setClientId(clientId);
+
+        assertThatThrownBy(() -> machineService.create(dto)).hasMessage("Client not found");
+    }
+}
@@ -0,0 +1,100 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.dto.SyncInterventionDTO;
+import maintenance_backend.example.demo.dto.SyncResponseDTO;
+import maintenance_backend.example.demo.dto.SyncResultDTO;
+import maintenance_backend.example.demo.dto.SyncResultDTO.Outcome;
+import maintenance_backend.example.demo.dto.SyncUpdateDTO;
+import maintenance_backend.example.demo.entity.*;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Batched offline upload: every change gets its own outcome, and rejected
+// ones do not roll back the accepted ones
+@SpringBootTest
+@ActiveProfiles("test")
+class SyncServiceTests {
+
+    @Autowired private SyncService syncService;
+    @Autowired private InterventionRepository interventionRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User technician;
+    private Long mine;
+    private Long other;
+
+    @BeforeEach
+    void seed() {
+        interventionRepository.deleteAllInBatch();
+
+        technician = user("tech@example.com");
+        mine = intervention(technician);
+        other = intervention(user("other@example.com"));
+    }
+
+    @Test
+    void fullSyncReturnsOwnInterventionsWithVersions() {
+        SyncResponseDTO response = syncService.getChanges(technician, null);
+
+        assertThat(response.isFull()).isTrue();
+        assertThat(response.getToken()).isNotBlank();
+        assertThat(response.getInterventions())
+                .extracting(SyncInterventionDTO::getId)
+                .containsExactly(mine);
+        assertThat(response.getInterventions().get(0).getVersion()).isNotNull();
+    }
+
+    @Test
+    void uploadReportsEachChange() {
+        Long version = interventionRepository.findById(mine).orElseThrow().getVersion();
+
+        List<SyncResultDTO> results = syncService.applyUpdates(technician, List.of(
+                update(mine, version, Status.IN_PROGRESS),
+                update(mine, version - 1, Status.DONE),
+                update(other, null, Status.DONE),
+                update(-1L, null, Status.DONE)));
+
+        assertThat(results).extracting(SyncResultDTO::getOutcome).containsExactly(
+                Outcome.APPLIED, Outcome.CONFLICT, Outcome.FORBIDDEN, Outcome.NOT_FOUND);
+        assertThat(results.get(0).getIntervention().getVersion()).isEqualTo(version + 1);
+        assertThat(interventionRepository.findById(mine).orElseThrow().getStatus()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(interventionRepository.findById(other).orElseThrow().getStatus()).isEqualTo(Status.ASSIGNED);
+    }
+
+    private SyncUpdateDTO update(Long id, Long baseVersion, Status status) {
+        SyncUpdateDTO dto = new SyncUpdateDTO();
+        dto.setInterventionId(id);
+        dto.setBaseVersion(baseVersion);
+        dto.setStatus(status);
+        return dto;
+    }
+
+    private Long intervention(User technician) {
+        Intervention intervention = new Intervention();
+        intervention.setDescription("Check");
+        intervention.setPriority(Priority.MEDIUM);
+        intervention.setStatus(Status.ASSIGNED);
+        intervention.setTechnician(technician);
+        return interventionRepository.save(intervention).getId();
+    }
+
+    private User user(String email) {
+        return userRepository.findByEmail(email).orElseGet(() -> {
+            User u = new User();
+            u.setName(email);
+            u.setEmail(email);
+            u.setPassword("x");
+            u.setRole(Role.TECHNICIAN);
+            return userRepository.save(u);
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package maintenance_backend.example.demo.service;
+
+import maintenance_backend.example.demo.dto.InterventionResponseDTO;
+import maintenance_backend.example.demo.entity.Priority;
+import maintenance_backend.example.demo.entity.Role;
+import maintenance_backend.example.demo.entity.Status;
+import maintenance_backend.example.demo.event.ChangeType;
+import maintenance_backend.example.demo.event.InterventionChangedEvent;
+import maintenance_backend.example.demo.repository.InterventionRepository;
+import maintenance_backend.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WorkloadServiceTests {
+
+    private WorkloadService workloadService;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        InterventionRepository interventionRepository = mock(InterventionRepository.class);
+        when(userRepository.findIdAndNameByRole(Role.TECHNICIAN)).thenReturn(List.of(
+                new Object[]{1L, "Alice"},
+                new Object[]{2L, "Bob"}));
+        // Alice already has one HIGH intervention in progress
+        when(interventionRepository.countOpenByTechnician()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, Status.IN_PROGRESS, Priority.HIGH, 1L}));
+
+        workloadService = new WorkloadService(interventionRepository, userRepository,
+                new ChangeFence(), mock(PlatformTransactionManager.class));
+        workloadService.rebuild();
+    }
+
+    @Test
+    void suggestsLeastLoadedTechnician() {
+        assertThat(workloadService.suggest()).get()
+                .satisfies(w -> assertThat(w.getTechnicianId()).isEqualTo(2L));
+    }
+
+    @Test
+    void reservationsSpreadConcurrentCreations() {
+        // Bob (0) takes the first HIGH; then both are at 3 with one intervention
+        // each (Bob's still in flight), and the tie goes to the lowest id
+        assertThat(workloadService.reserve(Priority.HIGH)).get()
+                .satisfies(r -> assertThat(r.technicianId()).isEqualTo(2L));
+        assertThat(workloadService.reserve(Priority.HIGH)).get()
+                .satisfies(r -> assertThat(r.technicianId()).isEqualTo(1L));
+    }
+
+    @Test
+    void closingAnInterventionFreesTheTechnician() {
+        InterventionResponseDTO open = intervention(Status.IN_PROGRESS);
+        InterventionResponseDTO done = intervention(Status.DONE);
+        workloadService.onInterventionChanged(new InterventionChangedEvent(ChangeType.UPDATED, open, done));
+
+        assertThat(workloadService.getWorkloads())
+                .allSatisfy(w -> assertThat(w.getOpen()).isZero());
+    }
+
+    private InterventionResponseDTO intervention(Status status) {
+        return new InterventionResponseDTO(10L, "Pump", Priority.HIGH, status, LocalDateTime.now(),
+                null, null, 1L, "Alice", 0L);
+    }
+}